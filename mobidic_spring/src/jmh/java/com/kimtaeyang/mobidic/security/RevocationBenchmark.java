@@ -0,0 +1,164 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import com.kimtaeyang.mobidic.type.RevocationStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 폐기 검사(JwtBlacklistService.checkRevocation) 전체 경로의 비용.
+ * near-cache 는 운영 기본값(100만 건, 1%)으로 만들고 블랙리스트 크기(초당 로그아웃 수 x access token 수명)만큼 채운다.
+ * Redis 는 pipeline 한 번을 redisRttMicros 만큼 대기하는 stub 으로 대신하므로
+ * Bloom filter 오탐과 실제 로그아웃 토큰이 왕복 비용으로 그대로 드러난다.
+ * 회원 epoch 은 모두 로컬에 캐싱된 정상 상태를 가정한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=RevocationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class RevocationBenchmark {
+    private static final long EXPECTED_INSERTIONS = 1_000_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int REQUESTS = 1 << 14;
+    private static final int MEMBERS = 1024;
+
+    //초당 로그아웃 수
+    @Param({"1", "20"})
+    private int logoutsPerSecond;
+
+    //access token 수명(초) : 24시간 vs 15분
+    @Param({"86400", "900"})
+    private int accessTokenSeconds;
+
+    //로그아웃된 토큰으로 들어오는 요청 비율
+    @Param({"0.001", "0.01"})
+    private double revokedRatio;
+
+    //같은 데이터센터 Redis pipeline 왕복
+    @Param({"200"})
+    private long redisRttMicros;
+
+    private JwtBlacklistService jwtBlacklistService;
+    private Claims[] requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int blacklistSize = logoutsPerSecond * accessTokenSeconds;
+
+        RevocationBloomFilter filter = new RevocationBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        Set<String> revokedKeys = new HashSet<>(blacklistSize * 2);
+        List<String> revokedIds = new ArrayList<>(Math.min(blacklistSize, REQUESTS));
+        for (int i = 0; i < blacklistSize; i++) {
+            String jti = UUID.randomUUID().toString();
+            filter.put(JwtBlacklistService.LOGOUT_PREFIX + jti);
+            revokedKeys.add(JwtBlacklistService.LOGOUT_PREFIX + jti);
+            if (revokedIds.size() < REQUESTS) {
+                revokedIds.add(jti);
+            }
+        }
+
+        StubRedisTemplate redisTemplate = new StubRedisTemplate(revokedKeys, TimeUnit.MICROSECONDS.toNanos(redisRttMicros));
+        RevocationNearCache revocationNearCache = new RevocationNearCache(redisTemplate, null);
+        Field field = Objects.requireNonNull(ReflectionUtils.findField(RevocationNearCache.class, "filter"));
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, revocationNearCache, filter);
+
+        MemberTokenEpochCache memberTokenEpochCache = new MemberTokenEpochCache(redisTemplate, null, MEMBERS, 3_600_000);
+        UUID[] members = new UUID[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            members[i] = UUID.randomUUID();
+            memberTokenEpochCache.fill(members[i], MemberTokenEpochCache.NONE);
+        }
+
+        jwtBlacklistService = new JwtBlacklistService(redisTemplate, new JwtUtil(new JwtProperties()),
+                revocationNearCache, memberTokenEpochCache, new JwtProperties(), new SimpleMeterRegistry());
+
+        Date issuedAt = new Date();
+        requests = new Claims[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            String jti = random.nextDouble() < revokedRatio && !revokedIds.isEmpty()
+                    ? revokedIds.get(random.nextInt(revokedIds.size()))
+                    : UUID.randomUUID().toString();
+            requests[i] = Jwts.claims()
+                    .id(jti)
+                    .subject(members[random.nextInt(MEMBERS)].toString())
+                    .issuedAt(issuedAt)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public RevocationStatus checkRevocation() {
+        Claims claims = requests[next++ & (REQUESTS - 1)];
+        return jwtBlacklistService.checkRevocation("", claims);
+    }
+
+    /**
+     * pipeline 으로 보낸 명령을 메모리의 키로 응답하고 왕복 시간만큼 대기하는 RedisTemplate.
+     * 벤치마크 스레드 하나에서만 사용한다.
+     */
+    static class StubRedisTemplate extends RedisTemplate<String, String> {
+        private final Set<String> keys;
+        private final long rttNanos;
+        private final RedisConnection connection;
+        private List<Object> results;
+
+        StubRedisTemplate(Set<String> keys, long rttNanos) {
+            this.keys = keys;
+            this.rttNanos = rttNanos;
+
+            RedisKeyCommands keyCommands = proxy(RedisKeyCommands.class, (target, method, args) -> {
+                results.add(keys.contains(new String((byte[]) args[0], StandardCharsets.UTF_8)));
+                return null;
+            });
+            //epoch 은 모두 로컬에 캐싱되어 있으므로 값이 없는 것으로 응답
+            RedisStringCommands stringCommands = proxy(RedisStringCommands.class, (target, method, args) -> {
+                results.add(null);
+                return null;
+            });
+            this.connection = proxy(RedisConnection.class, (target, method, args) -> switch (method.getName()) {
+                case "keyCommands" -> keyCommands;
+                case "stringCommands" -> stringCommands;
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+        }
+
+        @Override
+        public List<Object> executePipelined(RedisCallback<?> action) {
+            results = new ArrayList<>(4);
+            action.doInRedis(connection);
+
+            long until = System.nanoTime() + rttNanos;
+            while (System.nanoTime() - until < 0) {
+                Thread.onSpinWait();
+            }
+            return results;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.kimtaeyang.mobidic.dto.ApiResponse;
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.WordDetailDto;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import com.kimtaeyang.mobidic.type.ResponseFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어장 단어 목록 응답(ApiResponse&lt;List&lt;WordDetailDto&gt;&gt;)의 형식별 인코딩/디코딩 시간과 크기.
+ * 디코딩은 앱과 같이 DTO 타입으로 읽는다. 인코딩된 크기는 payload:bytes 로 남긴다.
+ *
+ * ./gradlew jmh -PjmhIncludes=ResponseFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+    private static final int DEFS = 3;
+    private static final TypeReference<ApiResponse<List<WordDetailDto>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private ResponseFormat format;
+
+    //단어장 하나의 단어 수
+    @Param({"50", "500"})
+    private int words;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<WordDetailDto>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case JSON -> new ObjectMapper();
+            case SMILE -> new ObjectMapper(new SmileFactory());
+            case CBOR -> new ObjectMapper(new CBORFactory());
+        };
+
+        Random random = new Random(42);
+        UUID vocabId = UUID.randomUUID();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<WordDetailDto> items = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            UUID wordId = UUID.randomUUID();
+            List<DefDto> defs = new ArrayList<>(DEFS);
+            for (int j = 0; j < DEFS; j++) {
+                defs.add(new DefDto(UUID.randomUUID(), wordId,
+                        "뜻 설명 " + i + "-" + j, PartOfSpeech.values()[random.nextInt(PartOfSpeech.values().length)]));
+            }
+            items.add(new WordDetailDto(wordId, vocabId, "expression" + i,
+                    Difficulty.values()[random.nextInt(Difficulty.values().length)], now, defs));
+        }
+        response = new ApiResponse<>(200, "OK", items);
+        encoded = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    //응답 1회의 인코딩 크기를 JMH 결과로 남긴다
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] payload(Payload payload) throws IOException {
+        byte[] bytes = encode();
+        payload.bytes = bytes.length;
+
+        return bytes;
+    }
+
+    @Benchmark
+    public ApiResponse<List<WordDetailDto>> decode() throws IOException {
+        return objectMapper.readValue(encoded, RESPONSE_TYPE);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+    }
+}
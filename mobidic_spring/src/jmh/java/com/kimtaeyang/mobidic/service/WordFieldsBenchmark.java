@@ -0,0 +1,189 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.Fields;
+import com.kimtaeyang.mobidic.dto.WordDetailDto;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import com.kimtaeyang.mobidic.type.WordField;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어장 단어 목록(getWordsByVocabId)의 fields 조합별 비용 : 조회+직렬화 시간(load), 쿼리 수와 응답 크기(payload).
+ * WordService 가 fields 에 따라 실행하는 쿼리를 인메모리 H2 에 그대로 실행하므로
+ * 실제 MySQL 에서는 생략한 쿼리마다 네트워크 왕복이 더 줄어든다. 단어장 조회 1회는 모든 조합에 같아서 제외.
+ *
+ * ./gradlew jmh -PjmhIncludes=WordFieldsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class WordFieldsBenchmark {
+    private static final int WORDS = 200;
+    private static final int DEFS = 3;
+
+    private static final String SELECT_WORDS = "select id, expression, created_at from word where vocab_id = ?";
+    private static final String SELECT_RATES = "select w.id, w.expression, w.created_at, r.difficulty "
+            + "from word w left join word_rate r on r.word_id = w.id where w.vocab_id = ?";
+    //서비스는 단어 id 목록으로 IN 조회
+    private static final String SELECT_DEFS = "select id, word_id, definition, part from def "
+            + "where word_id in (select id from word where vocab_id = ?)";
+
+    //빈 값은 전체 필드
+    @Param({"id,expression", "id,expression,difficulty", "id,expression,defs", ""})
+    private String fields;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Set<WordField> wordFields;
+    private Connection connection;
+    private Vocab vocab;
+    private int queries;
+
+    @Setup
+    public void setUp() throws SQLException {
+        wordFields = Fields.parse(WordField.class, fields);
+        vocab = Vocab.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .build();
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:fields;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("drop all objects");
+            ddl.execute("create table word (id uuid primary key, vocab_id uuid, expression varchar(64), created_at timestamp)");
+            ddl.execute("create table word_rate (word_id uuid primary key, vocab_id uuid, difficulty tinyint)");
+            ddl.execute("create table def (id uuid primary key, word_id uuid, definition varchar(255), part varchar(16))");
+            ddl.execute("create index idx_word_vocab on word (vocab_id)");
+            ddl.execute("create index idx_rate_vocab on word_rate (vocab_id)");
+            ddl.execute("create index idx_def_word on def (word_id)");
+        }
+        try (PreparedStatement word = connection.prepareStatement("insert into word values (?, ?, ?, ?)");
+             PreparedStatement rate = connection.prepareStatement("insert into word_rate values (?, ?, ?)");
+             PreparedStatement def = connection.prepareStatement("insert into def values (?, ?, ?, ?)")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < WORDS; i++) {
+                UUID wordId = UUID.randomUUID();
+                word.setObject(1, wordId);
+                word.setObject(2, vocab.getId());
+                word.setString(3, "expression" + i);
+                word.setTimestamp(4, now);
+                word.addBatch();
+
+                rate.setObject(1, wordId);
+                rate.setObject(2, vocab.getId());
+                rate.setInt(3, i % 3);
+                rate.addBatch();
+
+                for (int j = 0; j < DEFS; j++) {
+                    def.setObject(1, UUID.randomUUID());
+                    def.setObject(2, wordId);
+                    def.setString(3, "definition" + i + "-" + j);
+                    def.setString(4, PartOfSpeech.NOUN.name());
+                    def.addBatch();
+                }
+            }
+            word.executeBatch();
+            rate.executeBatch();
+            def.executeBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    //조회 1회의 쿼리 수와 응답 크기를 JMH 결과(payload:queries, payload:bytes)로 남긴다
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] payload(Payload payload) throws SQLException, JsonProcessingException {
+        int before = queries;
+        byte[] response = load();
+        payload.queries = queries - before;
+        payload.bytes = response.length;
+
+        return response;
+    }
+
+    @Benchmark
+    public byte[] load() throws SQLException, JsonProcessingException {
+        boolean withRate = wordFields.contains(WordField.DIFFICULTY);
+        List<Word> words = new ArrayList<>(WORDS);
+        Map<UUID, Difficulty> difficulties = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(withRate ? SELECT_RATES : SELECT_WORDS)) {
+            statement.setObject(1, vocab.getId());
+            queries++;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    Word word = Word.builder()
+                            .id(rs.getObject(1, UUID.class))
+                            .vocab(vocab)
+                            .expression(rs.getString(2))
+                            .createdAt(rs.getTimestamp(3))
+                            .build();
+                    words.add(word);
+                    //학습률이 없는 단어는 난이도 null
+                    Integer difficulty = withRate ? rs.getObject(4, Integer.class) : null;
+                    if (difficulty != null) {
+                        difficulties.put(word.getId(), Difficulty.values()[difficulty]);
+                    }
+                }
+            }
+        }
+
+        Map<UUID, List<DefDto>> defs = new HashMap<>();
+        if (wordFields.contains(WordField.DEFS)) {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_DEFS)) {
+                statement.setObject(1, vocab.getId());
+                queries++;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        DefDto def = new DefDto(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class),
+                                rs.getString(3), PartOfSpeech.valueOf(rs.getString(4)));
+                        defs.computeIfAbsent(def.getWordId(), (id) -> new ArrayList<>()).add(def);
+                    }
+                }
+            }
+        }
+
+        List<WordDetailDto> response = new ArrayList<>(words.size());
+        for (Word word : words) {
+            response.add(WordDetailDto.fromEntity(word, defs.getOrDefault(word.getId(), new ArrayList<>()),
+                    difficulties.get(word.getId()), wordFields));
+        }
+
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long queries;
+        public long bytes;
+    }
+}
@@ -0,0 +1,130 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.WordDetailDto;
+import com.kimtaeyang.mobidic.entity.Def;
+import com.kimtaeyang.mobidic.entity.Member;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단어장 단어 목록 응답 직렬화 비용 : 뜻 엔티티(Def → Word → Vocab → Member) 그대로 vs DefDto.
+ * 엔티티는 프록시 없이 빌더로 만든 객체이므로 실제 서비스에서는 여기에 연관 엔티티 로딩 비용이 더해진다.
+ * 두 응답의 크기는 payload:entityBytes, payload:dtoBytes 로 남긴다.
+ *
+ * ./gradlew jmh -PjmhIncludes=WordResponseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class WordResponseBenchmark {
+    private static final int WORDS = 50;
+    private static final int DEFS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<EntityWordDetail> entityResponse;
+    private List<WordDetailDto> dtoResponse;
+
+    @Setup
+    public void setUp() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Member member = Member.builder()
+                .id(UUID.randomUUID())
+                .email("member@test.com")
+                .nickname("member")
+                .password("password")
+                .isActive(true)
+                .createdAt(now)
+                .build();
+        Vocab vocab = Vocab.builder()
+                .id(UUID.randomUUID())
+                .member(member)
+                .title("title")
+                .description("description")
+                .createdAt(now)
+                .build();
+
+        entityResponse = new ArrayList<>(WORDS);
+        dtoResponse = new ArrayList<>(WORDS);
+        for (int i = 0; i < WORDS; i++) {
+            Word word = Word.builder()
+                    .id(UUID.randomUUID())
+                    .vocab(vocab)
+                    .expression("expression" + i)
+                    .createdAt(now)
+                    .build();
+
+            List<Def> defs = new ArrayList<>(DEFS);
+            for (int j = 0; j < DEFS; j++) {
+                defs.add(Def.builder()
+                        .id(UUID.randomUUID())
+                        .word(word)
+                        .definition("definition" + i + "-" + j)
+                        .part(PartOfSpeech.NOUN)
+                        .build());
+            }
+
+            entityResponse.add(new EntityWordDetail(word.getId(), vocab.getId(), word.getExpression(),
+                    Difficulty.NORMAL, now, defs));
+            dtoResponse.add(WordDetailDto.fromEntity(word,
+                    defs.stream().map(DefDto::fromEntity).toList(), Difficulty.NORMAL));
+        }
+    }
+
+    @Benchmark
+    public byte[] entityGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(entityResponse);
+    }
+
+    @Benchmark
+    public byte[] flatDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtoResponse);
+    }
+
+    //응답 1회의 크기를 JMH 결과로 남긴다
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public byte[] payload(Payload payload) throws JsonProcessingException {
+        byte[] entity = entityGraph();
+        byte[] dto = flatDto();
+        payload.entityBytes = entity.length;
+        payload.dtoBytes = dto.length;
+
+        return dto;
+    }
+
+    //변경 전 WordDetailDto 형태
+    public record EntityWordDetail(
+            UUID id,
+            UUID vocabId,
+            String expression,
+            Difficulty difficulty,
+            Timestamp createdAt,
+            List<Def> defs
+    ) {
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long entityBytes;
+        public long dtoBytes;
+    }
+}
@@ -0,0 +1,157 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.SimilarWordDto;
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 키 입력 한 번의 비용 : 회원별 메모리 색인 vs LIKE 'x%' 쿼리.
+ * LIKE 는 (member_id, expression) 인덱스가 있는 인메모리 H2 기준이므로
+ * 실제 MySQL 에서는 여기에 네트워크 왕복과 커넥션 획득 비용이 더해진다.
+ * 오타 검색(편집 거리 2)은 정렬 배열 위의 automaton 탐색과 전체 단어 비교를 함께 측정한다.
+ *
+ * ./gradlew jmh -PjmhIncludes=WordSearchIndexBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class WordSearchIndexBenchmark {
+    private static final String SELECT_PREFIX = "select id, vocab_id, expression from word "
+            + "where member_id = ? and expression like ? order by expression limit 10";
+
+    //회원 한 명의 단어 수
+    @Param({"1000", "10000"})
+    private int words;
+
+    private WordSearchIndex.MemberIndex index;
+    private Connection connection;
+    private PreparedStatement statement;
+    private UUID memberId;
+    private String[] keys;
+    private String[] prefixes;
+    private String[] typos;
+
+    @Setup
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        memberId = UUID.randomUUID();
+        UUID vocabId = UUID.randomUUID();
+
+        List<WordSuggestDto> suggestions = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            suggestions.add(new WordSuggestDto(UUID.randomUUID(), vocabId, randomWord(random)));
+        }
+        index = WordSearchIndex.MemberIndex.of(suggestions);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:prefix;DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create table word (id uuid primary key, vocab_id uuid, member_id uuid, expression varchar(64))");
+            ddl.execute("create index idx_word_member_expression on word (member_id, expression)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into word values (?, ?, ?, ?)")) {
+            //다른 회원의 단어도 함께 저장
+            for (UUID owner : new UUID[]{memberId, UUID.randomUUID(), UUID.randomUUID()}) {
+                for (WordSuggestDto suggestion : suggestions) {
+                    insert.setObject(1, owner.equals(memberId) ? suggestion.getId() : UUID.randomUUID());
+                    insert.setObject(2, suggestion.getVocabId());
+                    insert.setObject(3, owner);
+                    insert.setString(4, WordSearchIndex.key(suggestion.getExpression()));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        statement = connection.prepareStatement(SELECT_PREFIX);
+        keys = suggestions.stream()
+                .map((suggestion) -> WordSearchIndex.key(suggestion.getExpression()))
+                .toArray(String[]::new);
+
+        //1~3 글자 입력 상태
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = suggestions.get(random.nextInt(words)).getExpression();
+            prefixes[i] = WordSearchIndex.key(word.substring(0, Math.min(word.length(), 1 + random.nextInt(3))));
+        }
+
+        //한 글자를 바꾼 오타
+        typos = new String[1024];
+        for (int i = 0; i < typos.length; i++) {
+            char[] chars = WordSearchIndex.key(suggestions.get(random.nextInt(words)).getExpression()).toCharArray();
+            chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+            typos[i] = new String(chars);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<WordSuggestDto> prefixIndex() {
+        return index.search(nextPrefix(), 10);
+    }
+
+    @Benchmark
+    public List<WordSuggestDto> likeQuery() throws SQLException {
+        statement.setObject(1, memberId);
+        statement.setString(2, nextPrefix() + "%");
+
+        List<WordSuggestDto> result = new ArrayList<>(10);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                result.add(new WordSuggestDto(
+                        rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getString(3)));
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public List<SimilarWordDto> automatonSimilar() {
+        return index.similar(typos[ThreadLocalRandom.current().nextInt(typos.length)], 2, 100);
+    }
+
+    @Benchmark
+    public int bruteForceSimilar() {
+        String typo = typos[ThreadLocalRandom.current().nextInt(typos.length)];
+        int matches = 0;
+        for (String key : keys) {
+            if (WordSearchIndex.editDistance(typo, key) <= 2) {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+    private String nextPrefix() {
+        return prefixes[ThreadLocalRandom.current().nextInt(prefixes.length)];
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[4 + random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+
+        return new String(chars);
+    }
+}
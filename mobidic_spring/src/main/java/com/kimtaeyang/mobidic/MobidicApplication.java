@@ -2,8 +2,10 @@ package com.kimtaeyang.mobidic;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MobidicApplication {
 
 	public static void main(String[] args) {
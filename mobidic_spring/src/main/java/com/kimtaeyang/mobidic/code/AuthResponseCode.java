@@ -18,7 +18,10 @@ public enum AuthResponseCode implements ApiResponseCode {
     LOGOUT_FAILED(HttpStatus.BAD_REQUEST, "Logout failed"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid token"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "Unauthorized"),
-    LOGIN_OK(HttpStatus.OK, "Login success");
+    AUTH_BUSY(HttpStatus.TOO_MANY_REQUESTS, "Too many authentication requests"),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts"),
+    LOGIN_OK(HttpStatus.OK, "Login success"),
+    REFRESH_OK(HttpStatus.OK, "Refresh success");
 
     private final HttpStatus status;
     private final String message;
@@ -18,6 +18,7 @@ public enum GeneralResponseCode implements ApiResponseCode {
     DUPLICATED_TITLE(HttpStatus.CONFLICT, "Title is duplicated"),
     DUPLICATED_WORD(HttpStatus.CONFLICT, "Word is duplicated"),
     DUPLICATED_DEFINITION(HttpStatus.CONFLICT, "Definition is duplicated"),
+    BATCH_IN_PROGRESS(HttpStatus.CONFLICT, "Batch is already in progress"),
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "Method is not supported"),
     INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, "Invalid request body"),
     FORBIDDEN(HttpStatus.FORBIDDEN, "Forbidden request"),
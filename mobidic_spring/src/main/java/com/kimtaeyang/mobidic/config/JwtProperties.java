@@ -13,12 +13,32 @@ public class JwtProperties {
     private String JWT_SECRET;
     @Value("${jwt.exp}")
     private Long JWT_EXP;
+    @Value("${jwt.refresh-exp:1209600000}")
+    private Long REFRESH_EXP;
+    @Value("${jwt.verified-cache-size:10000}")
+    private Long VERIFIED_CACHE_SIZE;
+
+    //키 생성 비용을 요청마다 치르지 않도록 한 번만 생성
+    private volatile SecretKey secretKey;
 
     public SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        SecretKey key = secretKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+            secretKey = key;
+        }
+        return key;
     }
 
     public long getJwtExp() {
         return JWT_EXP;
     }
+
+    public long getRefreshExp() {
+        return REFRESH_EXP;
+    }
+
+    public long getVerifiedCacheSize() {
+        return VERIFIED_CACHE_SIZE;
+    }
 }
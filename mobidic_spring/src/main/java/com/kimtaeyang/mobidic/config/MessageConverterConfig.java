@@ -0,0 +1,27 @@
+package com.kimtaeyang.mobidic.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Accept 가 application/cbor, application/x-jackson-smile 이면 같은 ApiResponse 를 바이너리로 응답한다.
+ * JSON 과 같은 Jackson 설정(spring.jackson.*)을 쓰도록 Boot 의 builder 로 만든다.
+ * 기본 converter 목록에서 같은 타입 자리에 들어가므로 JSON 뒤에 위치하고, Accept 가 형식을 지정하지 않으면 JSON 으로 응답한다.
+ */
+@Configuration
+public class MessageConverterConfig {
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
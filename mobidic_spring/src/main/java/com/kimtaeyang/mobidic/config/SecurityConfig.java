@@ -2,10 +2,16 @@ package com.kimtaeyang.mobidic.config;
 
 import com.kimtaeyang.mobidic.exception.AuthAccessDeniedHandler;
 import com.kimtaeyang.mobidic.exception.AuthAuthenticationEntryPoint;
+import com.kimtaeyang.mobidic.security.BoundedPasswordEncoder;
 import com.kimtaeyang.mobidic.security.JwtAuthenticationFilter;
+import com.kimtaeyang.mobidic.security.LoginThrottleFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -18,6 +24,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -25,6 +34,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginThrottleFilter loginThrottleFilter;
     private final AuthAuthenticationEntryPoint authAuthenticationEntryPoint;
     private final AuthAccessDeniedHandler authAccessDeniedHandler;
 
@@ -37,10 +47,15 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/login", "/api/auth/join").permitAll()
+                        .requestMatchers("/api/auth/login", "/api/auth/join", "/api/auth/refresh").permitAll()
                         .requestMatchers("/error").permitAll()
+                        //내보내기 스트리밍 응답 종료 후의 async dispatch, 최초 요청에서 이미 인가됨
+                        .requestMatchers(new AndRequestMatcher(
+                                new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                                AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/word/export"))).permitAll()
                         .anyRequest().authenticated()
                 )
+                .addFilterBefore(loginThrottleFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(exceptionHandling -> exceptionHandling
                         .authenticationEntryPoint(authAuthenticationEntryPoint)
@@ -50,9 +65,21 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    //BCrypt 연산은 요청 스레드가 아닌 제한된 전용 풀에서 수행
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.hashing.pool-size:0}") int poolSize,
+            @Value("${auth.hashing.queue-size:64}") int queueSize,
+            @Value("${auth.hashing.timeout:5000}") long timeout,
+            @Value("${auth.hashing.retry-after:2}") long retryAfter,
+            MeterRegistry meterRegistry
+    ) {
+        int workers = poolSize > 0
+                ? poolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(), workers, queueSize, timeout, retryAfter, meterRegistry);
     }
 
     @Bean
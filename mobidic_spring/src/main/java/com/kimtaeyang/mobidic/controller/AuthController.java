@@ -3,6 +3,7 @@ package com.kimtaeyang.mobidic.controller;
 import com.kimtaeyang.mobidic.dto.ApiResponse;
 import com.kimtaeyang.mobidic.dto.JoinDto;
 import com.kimtaeyang.mobidic.dto.LoginDto;
+import com.kimtaeyang.mobidic.dto.RefreshDto;
 import com.kimtaeyang.mobidic.security.JwtUtil;
 import com.kimtaeyang.mobidic.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,6 +31,11 @@ public class AuthController {
         return ApiResponse.toResponseEntity(LOGIN_OK, authService.login(request));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshDto.Request request) {
+        return ApiResponse.toResponseEntity(REFRESH_OK, authService.refresh(request));
+    }
+
     @PostMapping("/join")
     public ResponseEntity<?> join(@Valid @RequestBody JoinDto.Request request) {
         return ApiResponse.toResponseEntity(JOIN_OK, authService.join(request));
@@ -0,0 +1,32 @@
+package com.kimtaeyang.mobidic.controller;
+
+import com.kimtaeyang.mobidic.type.ResponseFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.Optional;
+
+/**
+ * If-None-Match 처리. 같은 revision 이라도 응답 형식(JSON/CBOR/Smile)마다 본문이 다르므로
+ * ETag 에 형식 suffix 를 붙이고 Vary: Accept 를 함께 보낸다.
+ */
+final class ConditionalRequests {
+    private ConditionalRequests() {
+    }
+
+    //true 면 304 가 이미 설정되었으므로 본문 없이 반환한다
+    static boolean isNotModified(Optional<String> eTag, NativeWebRequest webRequest) {
+        if (eTag.isEmpty()) {
+            return false;
+        }
+
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+
+        ResponseFormat format = ResponseFormat.from(webRequest.getHeader(HttpHeaders.ACCEPT));
+        return webRequest.checkNotModified(format.toETag(eTag.get()));
+    }
+}
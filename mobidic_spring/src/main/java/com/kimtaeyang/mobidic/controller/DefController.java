@@ -3,10 +3,12 @@ package com.kimtaeyang.mobidic.controller;
 import com.kimtaeyang.mobidic.dto.AddDefDto;
 import com.kimtaeyang.mobidic.dto.ApiResponse;
 import com.kimtaeyang.mobidic.service.DefService;
+import com.kimtaeyang.mobidic.service.RevisionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.UUID;
 
@@ -18,6 +20,7 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
 @RequestMapping("/api/def")
 public class DefController {
     private final DefService defService;
+    private final RevisionService revisionService;
 
     @PostMapping("/{wordId}")
     public ResponseEntity<?> addDef(
@@ -30,8 +33,13 @@ public class DefController {
 
     @GetMapping("/all")
     public ResponseEntity<?> getDefsByWordId(
-            @RequestParam String wId
+            @RequestParam String wId,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getWordETag(UUID.fromString(wId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
                 defService.getDefsByWordId(UUID.fromString(wId)));
     }
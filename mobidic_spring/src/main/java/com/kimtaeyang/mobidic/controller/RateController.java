@@ -2,10 +2,12 @@ package com.kimtaeyang.mobidic.controller;
 
 import com.kimtaeyang.mobidic.dto.ApiResponse;
 import com.kimtaeyang.mobidic.service.RateService;
+import com.kimtaeyang.mobidic.service.RevisionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.UUID;
 
@@ -17,19 +19,30 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
 @RequestMapping("/api/rate/")
 public class RateController {
     private final RateService rateService;
+    private final RevisionService revisionService;
 
     @GetMapping("/w")
     public ResponseEntity<?> getRateByWordId(
-            @RequestParam String wId
+            @RequestParam String wId,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getWordETag(UUID.fromString(wId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
                 rateService.getRateByWordId(UUID.fromString(wId)));
     }
 
     @GetMapping("/v")
     public ResponseEntity<?> getVocabLearningRate(
-            @RequestParam String vId
+            @RequestParam String vId,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getVocabETag(UUID.fromString(vId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
                 rateService.getVocabLearningRate(UUID.fromString(vId)));
     }
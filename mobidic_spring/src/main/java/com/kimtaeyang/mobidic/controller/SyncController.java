@@ -0,0 +1,45 @@
+package com.kimtaeyang.mobidic.controller;
+
+import com.kimtaeyang.mobidic.dto.ApiResponse;
+import com.kimtaeyang.mobidic.dto.BatchDto;
+import com.kimtaeyang.mobidic.service.BatchService;
+import com.kimtaeyang.mobidic.service.SyncService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/sync")
+public class SyncController {
+    private final SyncService syncService;
+    private final BatchService batchService;
+
+    //since 는 이전 응답의 revision, 처음 동기화는 0
+    @GetMapping
+    public ResponseEntity<?> getChanges(
+            @RequestParam String uId,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "" + SyncService.DEFAULT_SIZE) int size
+    ) {
+        return ApiResponse.toResponseEntity(OK,
+                syncService.getChanges(UUID.fromString(uId), since, size));
+    }
+
+    //오프라인에서 쌓인 변경을 한 번에 적용, 같은 batchId 재전송 시 저장된 결과 반환
+    @PostMapping("/batch")
+    public ResponseEntity<?> applyBatch(
+            @RequestParam String uId,
+            @RequestBody @Valid BatchDto.Request request
+    ) {
+        return ApiResponse.toResponseEntity(OK,
+                batchService.applyBatch(UUID.fromString(uId), request));
+    }
+}
@@ -2,13 +2,17 @@ package com.kimtaeyang.mobidic.controller;
 
 import com.kimtaeyang.mobidic.dto.AddVocabDto;
 import com.kimtaeyang.mobidic.dto.ApiResponse;
+import com.kimtaeyang.mobidic.dto.Fields;
 import com.kimtaeyang.mobidic.dto.UpdateVocabDto;
+import com.kimtaeyang.mobidic.service.RevisionService;
 import com.kimtaeyang.mobidic.service.VocabService;
+import com.kimtaeyang.mobidic.type.VocabField;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.UUID;
 
@@ -20,6 +24,7 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
 @RequestMapping("/api/vocab")
 public class VocabController {
     private final VocabService vocabService;
+    private final RevisionService revisionService;
 
     @PostMapping("/{memberId}")
     public ResponseEntity<?> addVocab(
@@ -32,18 +37,47 @@ public class VocabController {
 
     @GetMapping("/all")
     public ResponseEntity<?> getAllVocab(
-           @RequestParam String uId
+            @RequestParam String uId,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getMemberETag(UUID.fromString(uId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
-                vocabService.getVocabsByMemberId(UUID.fromString(uId)));
+                vocabService.getVocabsByMemberId(UUID.fromString(uId), Fields.parse(VocabField.class, fields)));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> getVocabPage(
+            @RequestParam String uId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
+    ) {
+        if (ConditionalRequests.isNotModified(revisionService.getMemberETag(UUID.fromString(uId)), webRequest)) {
+            return null;
+        }
+
+        return ApiResponse.toResponseEntity(OK,
+                vocabService.getVocabPageByMemberId(UUID.fromString(uId), cursor, size,
+                        Fields.parse(VocabField.class, fields)));
     }
 
     @GetMapping("/detail")
     public ResponseEntity<?> getVocabDetail(
-            @RequestParam String vId
+            @RequestParam String vId,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getVocabETag(UUID.fromString(vId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
-                vocabService.getVocabById(UUID.fromString(vId)));
+                vocabService.getVocabById(UUID.fromString(vId), Fields.parse(VocabField.class, fields)));
     }
 
     @PatchMapping("/{vocabId}")
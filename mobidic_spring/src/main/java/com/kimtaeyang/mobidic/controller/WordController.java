@@ -2,15 +2,32 @@ package com.kimtaeyang.mobidic.controller;
 
 import com.kimtaeyang.mobidic.dto.AddWordDto;
 import com.kimtaeyang.mobidic.dto.ApiResponse;
+import com.kimtaeyang.mobidic.dto.Fields;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.service.RevisionService;
+import com.kimtaeyang.mobidic.service.WordExportService;
+import com.kimtaeyang.mobidic.service.WordImportService;
 import com.kimtaeyang.mobidic.service.WordService;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import com.kimtaeyang.mobidic.type.WordField;
+import com.kimtaeyang.mobidic.type.WordSort;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.Locale;
 import java.util.UUID;
 
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.INVALID_REQUEST;
 import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
 
 @RestController
@@ -19,6 +36,9 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
 @RequestMapping("/api/word")
 public class WordController {
     private final WordService wordService;
+    private final WordImportService wordImportService;
+    private final WordExportService wordExportService;
+    private final RevisionService revisionService;
 
     @PostMapping("/{vocabId}")
     public ResponseEntity<?> addWord(
@@ -29,6 +49,19 @@ public class WordController {
                 wordService.addWord(UUID.fromString(vocabId), request));
     }
 
+    //본문을 바인딩하지 않고 스트림으로 넘겨 chunk 단위로 저장
+    @PostMapping(value = "/{vocabId}/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importWords(
+            @PathVariable("vocabId") String vocabId,
+            HttpServletRequest request
+    ) throws IOException {
+        FileFormat format = FileFormat.from(MediaType.parseMediaType(request.getContentType()))
+                .orElseThrow(() -> new ApiException(INVALID_REQUEST));
+
+        return ApiResponse.toResponseEntity(OK,
+                wordImportService.importWords(UUID.fromString(vocabId), request.getInputStream(), format));
+    }
+
     @PatchMapping("/{wordId}")
     public ResponseEntity<?> updateWord(
             @PathVariable("wordId") String wordId,
@@ -48,17 +81,85 @@ public class WordController {
 
     @GetMapping("/all")
     public ResponseEntity<?> getWordsByVocabId(
-            @RequestParam String vId
+            @RequestParam String vId,
+            @RequestParam(required = false) Difficulty difficulty,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
     ) {
+        if (ConditionalRequests.isNotModified(revisionService.getVocabETag(UUID.fromString(vId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
-                wordService.getWordsByVocabId(UUID.fromString(vId)));
+                wordService.getWordsByVocabId(UUID.fromString(vId), difficulty,
+                        Fields.parse(WordField.class, fields)));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> getWordPageByVocabId(
+            @RequestParam String vId,
+            @RequestParam(defaultValue = "CREATED_AT") WordSort sort,
+            @RequestParam(required = false) Difficulty difficulty,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
+    ) {
+        if (ConditionalRequests.isNotModified(revisionService.getVocabETag(UUID.fromString(vId)), webRequest)) {
+            return null;
+        }
+
+        return ApiResponse.toResponseEntity(OK,
+                wordService.getWordPageByVocabId(UUID.fromString(vId), sort, difficulty, cursor, size,
+                        Fields.parse(WordField.class, fields)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWords(
+            @RequestParam String vId,
+            @RequestParam(defaultValue = "NDJSON") FileFormat format
+    ) {
+        StreamingResponseBody body = wordExportService.exportWords(UUID.fromString(vId), format);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + vId + "." + format.name().toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggestWords(
+            @RequestParam String uId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.toResponseEntity(OK,
+                wordService.suggestWords(UUID.fromString(uId), q, size));
+    }
+
+    @GetMapping("/similar")
+    public ResponseEntity<?> findSimilarWords(
+            @RequestParam String uId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "2") int distance,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.toResponseEntity(OK,
+                wordService.findSimilarWords(UUID.fromString(uId), q, distance, size));
     }
 
     @GetMapping("/detail")
     public ResponseEntity<?> getWordDetail(
-            @RequestParam String wId
-    ){
+            @RequestParam String wId,
+            @RequestParam(required = false) String fields,
+            NativeWebRequest webRequest
+    ) {
+        if (ConditionalRequests.isNotModified(revisionService.getWordETag(UUID.fromString(wId)), webRequest)) {
+            return null;
+        }
+
         return ApiResponse.toResponseEntity(OK,
-                wordService.getWordDetail(UUID.fromString(wId)));
+                wordService.getWordDetail(UUID.fromString(wId), Fields.parse(WordField.class, fields)));
     }
 }
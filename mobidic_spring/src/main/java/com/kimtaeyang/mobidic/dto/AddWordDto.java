@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 public class AddWordDto {
@@ -28,6 +29,8 @@ public class AddWordDto {
     public static class Response {
         private UUID id;
         private String expression;
+        //등록 시 회원의 기존 단어 중 철자가 비슷한 단어 (오타로 인한 중복 경고)
+        private List<SimilarWordDto> similarWords;
 
         public static Response fromEntity(Word word) {
             return builder()
@@ -0,0 +1,108 @@
+package com.kimtaeyang.mobidic.dto;
+
+import com.kimtaeyang.mobidic.code.ApiResponseCode;
+import com.kimtaeyang.mobidic.type.BatchOperation;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+public class BatchDto {
+    public static final int MAX_OPERATIONS = 500;
+
+    /**
+     * 오프라인에서 쌓인 변경 묶음.
+     * batchId 는 클라이언트가 만든 값으로, 같은 batchId 로 다시 보내면 처음 결과를 그대로 돌려준다.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Request {
+        @NotNull
+        private UUID batchId;
+        @NotEmpty
+        @Size(max = MAX_OPERATIONS)
+        @Valid
+        private List<Operation> operations;
+    }
+
+    /**
+     * 순서대로 적용되는 변경 하나.
+     * ref 는 이 변경으로 생기는 단어/뜻의 클라이언트 id 로, 뒤 변경에서 wordRef/defRef 로 가리킬 수 있다.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Operation {
+        @NotNull
+        private BatchOperation type;
+        @Size(max = 64)
+        private String ref;
+        private UUID vocabId;
+        private UUID wordId;
+        private String wordRef;
+        private UUID defId;
+        private String defRef;
+        private String expression;
+        private String definition;
+        private PartOfSpeech part;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private UUID batchId;
+        //이전에 처리된 batch 의 저장된 결과인지 여부
+        private boolean replayed;
+        private List<Result> results;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Result {
+        private int index;
+        private String ref;
+        private boolean success;
+        //변경된 단어/뜻 id, 학습 여부 변경은 단어 id
+        private UUID id;
+        private String code;
+        private String message;
+
+        public static Result success(int index, String ref, UUID id) {
+            return Result.builder()
+                    .index(index)
+                    .ref(ref)
+                    .success(true)
+                    .id(id)
+                    .build();
+        }
+
+        public static Result failure(int index, String ref, String code, String message) {
+            return Result.builder()
+                    .index(index)
+                    .ref(ref)
+                    .success(false)
+                    .code(code)
+                    .message(message)
+                    .build();
+        }
+
+        public static Result failure(int index, String ref, ApiResponseCode responseCode) {
+            return failure(index, ref, responseCode.toString(), responseCode.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.kimtaeyang.mobidic.dto;
+
+import com.kimtaeyang.mobidic.exception.ApiException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.INVALID_REQUEST;
+
+/**
+ * fields 파라미터. 쉼표로 구분한 응답 필드 이름(vocabId, createdAt ...)을 필드 enum 집합으로 바꾼다.
+ * 파라미터가 없으면 전체 필드, 리소스를 구분하는 id 는 항상 포함한다.
+ */
+public final class Fields {
+    private Fields() {
+    }
+
+    public static <E extends Enum<E>> Set<E> parse(Class<E> type, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(type);
+        }
+
+        Set<E> parsed = EnumSet.of(Enum.valueOf(type, "ID"));
+        for (String field : fields.split(",")) {
+            String name = field.trim().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+            try {
+                parsed.add(Enum.valueOf(type, name));
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(INVALID_REQUEST);
+            }
+        }
+
+        return parsed;
+    }
+}
@@ -25,5 +25,6 @@ public class LoginDto {
     @Builder
     public static class Response{
         private String token;
+        private String refreshToken;
     }
 }
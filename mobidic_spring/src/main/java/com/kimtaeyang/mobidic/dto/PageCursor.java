@@ -0,0 +1,66 @@
+package com.kimtaeyang.mobidic.dto;
+
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.INVALID_REQUEST;
+
+/**
+ * 마지막으로 받은 행의 (정렬 키, id). 클라이언트에는 base64url 문자열로 전달된다.
+ * 정렬 키가 같은 행은 id 로 순서를 정한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final UUID id;
+
+    public static PageCursor of(Timestamp key, UUID id) {
+        return new PageCursor(key.toInstant().toString(), id);
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            //정렬 키에 구분자가 포함될 수 있으므로 마지막 구분자 기준으로 분리
+            int separator = decoded.lastIndexOf(SEPARATOR);
+
+            return new PageCursor(
+                    decoded.substring(0, separator),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ApiException(INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Difficulty getDifficultyKey() {
+        try {
+            return Difficulty.valueOf(key);
+        } catch (RuntimeException e) {
+            throw new ApiException(INVALID_REQUEST);
+        }
+    }
+
+    public Timestamp getTimestampKey() {
+        try {
+            return Timestamp.from(Instant.parse(key));
+        } catch (RuntimeException e) {
+            throw new ApiException(INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kimtaeyang.mobidic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SimilarWordDto {
+    private UUID id;
+    private UUID vocabId;
+    private String expression;
+    //대소문자 구분 없는 편집 거리
+    private int distance;
+    private int isLearned;
+}
@@ -0,0 +1,63 @@
+package com.kimtaeyang.mobidic.dto;
+
+import com.kimtaeyang.mobidic.entity.Rate;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+public class SyncDto {
+    /**
+     * since 이후 변경분.
+     * 삭제된 단어장/단어의 하위 리소스는 따로 내려주지 않으므로 클라이언트가 함께 삭제한다.
+     * hasNext 가 true 면 revision 을 since 로 다시 요청한다.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private long revision;
+        private boolean hasNext;
+        private List<VocabDto> vocabs;
+        private List<Word> words;
+        private List<DefDto> defs;
+        private List<UUID> deletedVocabIds;
+        private List<UUID> deletedWordIds;
+        private List<UUID> deletedDefIds;
+    }
+
+    //단어와 학습률을 합친 형태
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Word {
+        private UUID id;
+        private UUID vocabId;
+        private String expression;
+        private Timestamp createdAt;
+        private int correctCount;
+        private int incorrectCount;
+        private int isLearned;
+        private Difficulty difficulty;
+
+        public static Word fromEntity(Rate rate) {
+            return Word.builder()
+                    .id(rate.getWordId())
+                    .vocabId(rate.getWord().getVocab().getId())
+                    .expression(rate.getWord().getExpression())
+                    .createdAt(rate.getWord().getCreatedAt())
+                    .correctCount(rate.getCorrectCount())
+                    .incorrectCount(rate.getIncorrectCount())
+                    .isLearned(rate.getIsLearned())
+                    .difficulty(rate.getDifficulty())
+                    .build();
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.kimtaeyang.mobidic.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.type.VocabField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.sql.Timestamp;
+import java.util.Set;
 import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class VocabDto {
     private UUID id;
     private UUID memberId;
@@ -29,4 +33,15 @@ public class VocabDto {
                 .createdAt(vocab.getCreatedAt())
                 .build();
     }
+
+    //fields 로 요청하지 않은 필드는 응답에서 제외
+    public static VocabDto fromEntity (Vocab vocab, Set<VocabField> fields) {
+        return VocabDto.builder()
+                .id(vocab.getId())
+                .memberId(fields.contains(VocabField.MEMBER_ID) ? vocab.getMember().getId() : null)
+                .title(fields.contains(VocabField.TITLE) ? vocab.getTitle() : null)
+                .description(fields.contains(VocabField.DESCRIPTION) ? vocab.getDescription() : null)
+                .createdAt(fields.contains(VocabField.CREATED_AT) ? vocab.getCreatedAt() : null)
+                .build();
+    }
 }
@@ -1,9 +1,10 @@
 package com.kimtaeyang.mobidic.dto;
 
 
-import com.kimtaeyang.mobidic.entity.Def;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.WordField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,21 +12,24 @@ import lombok.NoArgsConstructor;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+//fields 로 요청하지 않은 필드는 null 로 두고 응답에서 제외
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class WordDetailDto {
     private UUID id;
     private UUID vocabId;
     private String expression;
     private Difficulty difficulty;
     private Timestamp createdAt;
-    private List<Def> defs;
+    private List<DefDto> defs;
 
-    public static WordDetailDto fromEntity (Word word, List<Def> defs, Difficulty difficulty) {
+    public static WordDetailDto fromEntity (Word word, List<DefDto> defs, Difficulty difficulty) {
         return WordDetailDto.builder()
                 .id(word.getId())
                 .vocabId(word.getVocab().getId())
@@ -35,4 +39,18 @@ public class WordDetailDto {
                 .defs(defs)
                 .build();
     }
-}
\ No newline at end of file
+
+    //defs, difficulty 는 요청하지 않았으면 조회하지 않았으므로 null 로 전달된다
+    public static WordDetailDto fromEntity (
+            Word word, List<DefDto> defs, Difficulty difficulty, Set<WordField> fields
+    ) {
+        return WordDetailDto.builder()
+                .id(word.getId())
+                .vocabId(fields.contains(WordField.VOCAB_ID) ? word.getVocab().getId() : null)
+                .expression(fields.contains(WordField.EXPRESSION) ? word.getExpression() : null)
+                .difficulty(fields.contains(WordField.DIFFICULTY) ? difficulty : null)
+                .createdAt(fields.contains(WordField.CREATED_AT) ? word.getCreatedAt() : null)
+                .defs(fields.contains(WordField.DEFS) ? defs : null)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kimtaeyang.mobidic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class WordExportDto {
+    //NDJSON 내보내기 한 줄, 가져오기(WordImportDto.Row)와 같은 필드명을 사용
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Row {
+        private String expression;
+        private List<AddDefDto.Request> defs;
+        private int correctCount;
+        private int incorrectCount;
+        private int isLearned;
+    }
+}
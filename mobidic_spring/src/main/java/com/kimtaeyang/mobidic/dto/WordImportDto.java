@@ -0,0 +1,49 @@
+package com.kimtaeyang.mobidic.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class WordImportDto {
+    //NDJSON 한 줄 또는 같은 표현이 연속된 CSV 행 묶음
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Row {
+        @NotBlank
+        @Size(min = 1, max = 64)
+        private String expression;
+        @Valid
+        private List<AddDefDto.Request> defs;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class RowError {
+        private long line;
+        private String expression;
+        private String message;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class Response {
+        private long total;
+        private long imported;
+        private long failed;
+        private List<RowError> errors;
+        //오류가 많으면 앞부분만 반환
+        private boolean errorsTruncated;
+    }
+}
@@ -0,0 +1,18 @@
+package com.kimtaeyang.mobidic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WordSuggestDto {
+    private UUID id;
+    private UUID vocabId;
+    private String expression;
+}
@@ -0,0 +1,66 @@
+package com.kimtaeyang.mobidic.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * 적용된 변경 묶음의 결과.
+ * 묶음 적용과 같은 트랜잭션에서 저장하므로 결과가 없으면 적용되지 않은 묶음이다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@IdClass(BatchResult.Key.class)
+@Table(name = "batch_result", indexes = {
+        @Index(name = "idx_batch_result_created_at", columnList = "created_at")
+})
+public class BatchResult implements Persistable<BatchResult.Key> {
+    @Id
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Id
+    @Column(name = "batch_id", columnDefinition = "BINARY(16)")
+    private UUID batchId;
+
+    @Lob
+    @Column(name = "response")
+    private String response;
+
+    @Column(name = "created_at")
+    private Timestamp createdAt;
+
+    //id 를 직접 지정하므로 save 시 merge 전 select 를 피하기 위해 신규 여부를 따로 관리
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public Key getId() {
+        return new Key(memberId, batchId);
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID memberId;
+        private UUID batchId;
+    }
+}
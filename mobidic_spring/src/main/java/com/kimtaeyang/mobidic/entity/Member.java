@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -37,6 +38,11 @@ public class Member implements UserDetails {
     private Timestamp createdAt;
     @Column(name="withdrawn_at")
     private Timestamp withdrawnAt;
+    //동기화용 회원별 변경 번호, 엔티티 저장으로 덮어쓰지 않도록 쿼리로만 증가
+    @Column(name="revision", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Long revision;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
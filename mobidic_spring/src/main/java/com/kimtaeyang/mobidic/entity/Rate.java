@@ -1,5 +1,6 @@
 package com.kimtaeyang.mobidic.entity;
 
+import com.kimtaeyang.mobidic.type.Difficulty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,7 +14,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name="word_rate")
+@Table(name="word_rate", indexes = {
+        @Index(name = "idx_rate_vocab_difficulty", columnList = "vocab_id, difficulty, word_id")
+})
 public class Rate {
     @Id
     private UUID wordId;
@@ -23,6 +26,10 @@ public class Rate {
     @JoinColumn(name = "word_id")
     private Word word;
 
+    //단어의 단어장은 바뀌지 않으므로 복사해 두고 단어장별 난이도 인덱스에 사용
+    @Column(name = "vocab_id", columnDefinition = "BINARY(16)")
+    private UUID vocabId;
+
     @Column(name = "correct_count")
     private int correctCount;
 
@@ -31,4 +38,18 @@ public class Rate {
 
     @Column(name = "is_learned")
     private int isLearned;
-}
\ No newline at end of file
+
+    //정답/오답 수로 계산한 난이도, 저장할 때마다 다시 계산 (커서 페이지의 키로 쓰이므로 null 불가)
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "difficulty", nullable = false)
+    private Difficulty difficulty;
+
+    @PrePersist
+    @PreUpdate
+    void updateDifficulty() {
+        if (vocabId == null && word != null && word.getVocab() != null) {
+            vocabId = word.getVocab().getId();
+        }
+        difficulty = Difficulty.of(correctCount, incorrectCount);
+    }
+}
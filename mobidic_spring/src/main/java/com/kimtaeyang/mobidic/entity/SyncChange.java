@@ -0,0 +1,63 @@
+package com.kimtaeyang.mobidic.entity;
+
+import com.kimtaeyang.mobidic.type.SyncType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 리소스별 마지막 변경 기록.
+ * 리소스마다 한 행만 유지하므로 변경이 반복돼도 행 수는 리소스 수(+ tombstone)를 넘지 않는다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "sync_change", indexes = {
+        @Index(name = "idx_sync_change_member_revision", columnList = "member_id, revision"),
+        @Index(name = "idx_sync_change_vocab", columnList = "vocab_id")
+})
+public class SyncChange implements Persistable<UUID> {
+    @Id
+    @Column(name = "resource_id", columnDefinition = "BINARY(16)")
+    private UUID resourceId;
+
+    @Column(name = "member_id", columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    //단어장 삭제 시 하위 리소스 기록을 함께 정리하기 위해 보관
+    @Column(name = "vocab_id", columnDefinition = "BINARY(16)")
+    private UUID vocabId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private SyncType type;
+
+    @Column(name = "revision")
+    private long revision;
+
+    @Column(name = "deleted")
+    private boolean deleted;
+
+    //id 를 직접 지정하므로 save 시 merge 전 select 를 피하기 위해 신규 여부를 따로 관리
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public UUID getId() {
+        return resourceId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
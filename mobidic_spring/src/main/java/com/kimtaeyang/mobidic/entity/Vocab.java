@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.sql.Timestamp;
 import java.util.UUID;
@@ -14,14 +15,16 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name="vocab")
+@Table(name="vocab", indexes = {
+        @Index(name = "idx_vocab_member_created", columnList = "member_id, created_at, id")
+})
 public class Vocab {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", columnDefinition = "BINARY(16)")
     private Member member;
 
@@ -29,6 +32,11 @@ public class Vocab {
     private String title;
     @Column(name = "description")
     private String description;
+    @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", insertable = false, updatable = false)
     private Timestamp createdAt;
+    //단어장 안의 마지막 변경 번호(회원 revision), ETag 로 사용
+    @ColumnDefault("0")
+    @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+    private Long revision;
 }
\ No newline at end of file
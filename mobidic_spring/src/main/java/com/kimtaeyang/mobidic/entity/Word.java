@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.sql.Timestamp;
 import java.util.UUID;
@@ -14,19 +15,23 @@ import java.util.UUID;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name="word")
+@Table(name="word", indexes = {
+        @Index(name = "idx_word_vocab_created", columnList = "vocab_id, created_at, id"),
+        @Index(name = "idx_word_vocab_expression", columnList = "vocab_id, expression, id")
+})
 public class Word {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", columnDefinition = "BINARY(16)")
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "vocab_id")
     private Vocab vocab;
 
     @Column(name = "expression")
     private String expression;
+    @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", insertable = false, updatable = false)
     private Timestamp createdAt;
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.kimtaeyang.mobidic.exception;
 import com.kimtaeyang.mobidic.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -56,6 +57,24 @@ public class ApiExceptionHandler {
         return ErrorResponse.toResponseEntity(UNAUTHORIZED, null);
     }
 
+    @ExceptionHandler(RetryableApiException.class)
+    public ResponseEntity<?> retryableApiException(
+            RetryableApiException e, HttpServletRequest request
+    ) {
+        log.error("errorCode : {}, uri : {}, message : {}",
+                e, request.getRequestURI(), e.getMessage());
+
+        ErrorResponse<?> errorResponse = ErrorResponse.builder()
+                .errors(null)
+                .status(e.getStatus().value())
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity.status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<?> apiException(
             ApiException e, HttpServletRequest request
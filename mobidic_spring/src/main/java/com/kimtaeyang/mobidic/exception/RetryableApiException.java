@@ -0,0 +1,17 @@
+package com.kimtaeyang.mobidic.exception;
+
+import com.kimtaeyang.mobidic.code.ApiResponseCode;
+import lombok.Getter;
+
+/**
+ * 일시적인 과부하로 거절된 요청. 응답에 Retry-After 헤더가 포함된다.
+ */
+@Getter
+public class RetryableApiException extends ApiException {
+    private final long retryAfterSeconds;
+
+    public RetryableApiException(ApiResponseCode responseCode, long retryAfterSeconds) {
+        super(responseCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.kimtaeyang.mobidic.repository;
+
+import com.kimtaeyang.mobidic.entity.BatchResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.sql.Timestamp;
+
+public interface BatchResultRepository extends JpaRepository<BatchResult, BatchResult.Key> {
+    //idx_batch_result_created_at 인덱스 사용
+    @Modifying
+    @Query("delete from BatchResult r where r.createdAt < :before")
+    int deleteByCreatedAtBefore(Timestamp before);
+}
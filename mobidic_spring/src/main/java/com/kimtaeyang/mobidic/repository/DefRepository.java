@@ -1,9 +1,13 @@
 package com.kimtaeyang.mobidic.repository;
 
+import com.kimtaeyang.mobidic.dto.DefDto;
 import com.kimtaeyang.mobidic.entity.Def;
 import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.security.MemberScope;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +16,31 @@ public interface DefRepository extends JpaRepository<Def, UUID> {
     List<Def> findByWord(Word word);
 
     Optional<Def> findByDefinition(String definition);
+
+    //응답용 조회는 엔티티 없이 DTO 로 바로 조회
+    @Query("select new com.kimtaeyang.mobidic.dto.DefDto(d.id, d.word.id, d.definition, d.part) " +
+            "from Def d where d.word.id = :wordId")
+    List<DefDto> findDtosByWordId(UUID wordId);
+
+    @Query("select new com.kimtaeyang.mobidic.dto.DefDto(d.id, d.word.id, d.definition, d.part) " +
+            "from Def d where d.word.id in :wordIds")
+    List<DefDto> findDtosByWordIdIn(Collection<UUID> wordIds);
+
+    @Query("select new com.kimtaeyang.mobidic.dto.DefDto(d.id, d.word.id, d.definition, d.part) " +
+            "from Def d where d.id in :defIds")
+    List<DefDto> findDtosByIdIn(Collection<UUID> defIds);
+
+    @Query("select d.word.vocab.member.id from Def d where d.id = :defId")
+    Optional<UUID> findMemberIdById(UUID defId);
+
+    @Query("select d from Def d join fetch d.word w join fetch w.vocab v join fetch v.member m " +
+            "where d.id = :defId and m.id = :memberId")
+    Optional<Def> findByIdAndMemberId(UUID defId, UUID memberId);
+
+    @Query("select d from Def d join fetch d.word w where d.id in :defIds and w.vocab.member.id = :memberId")
+    List<Def> findAllByIdAndMemberId(Collection<UUID> defIds, UUID memberId);
+
+    default Optional<Def> findById(UUID defId, MemberScope memberScope) {
+        return memberScope.findById(defId, this::findById, this::findByIdAndMemberId);
+    }
 }
@@ -2,6 +2,7 @@ package com.kimtaeyang.mobidic.repository;
 
 import com.kimtaeyang.mobidic.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -16,4 +17,12 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findById(UUID id);
     Optional<Member> findByEmail(String email);
     Optional<Member> findByNickname(String nickname);
+
+    //회원 행 잠금이 커밋까지 유지되므로 같은 회원의 변경 번호는 커밋 순서대로 증가
+    @Modifying
+    @Query("update Member m set m.revision = m.revision + :count where m.id = :memberId")
+    int increaseRevision(UUID memberId, long count);
+
+    @Query("select m.revision from Member m where m.id = :memberId")
+    Optional<Long> findRevisionById(UUID memberId);
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package com.kimtaeyang.mobidic.repository;
 
 import com.kimtaeyang.mobidic.entity.Rate;
 import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.Difficulty;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +21,21 @@ public interface RateRepository extends JpaRepository<Rate, UUID> {
     Optional<Double> getVocabLearningRate(@Param("vocab") UUID vocabId);
 
     Optional<Rate> findRateByWord(Word word);
+
+    @Query("select r from Rate r join fetch r.word w where r.vocabId = :vocabId and r.difficulty = :difficulty")
+    List<Rate> findWithWordByVocabId(UUID vocabId, Difficulty difficulty);
+
+    @Query("select r from Rate r join fetch r.word w where r.wordId in :wordIds")
+    List<Rate> findWithWordByWordIdIn(Collection<UUID> wordIds);
+
+    @Query("select r.word.vocab.member.id from Rate r where r.wordId = :wordId")
+    Optional<UUID> findMemberIdById(UUID wordId);
+
+    @Query("select r from Rate r join fetch r.word w join fetch w.vocab v join fetch v.member m " +
+            "where r.wordId = :wordId and m.id = :memberId")
+    Optional<Rate> findByIdAndMemberId(UUID wordId, UUID memberId);
+
+    default Optional<Rate> findById(UUID wordId, MemberScope memberScope) {
+        return memberScope.findById(wordId, this::findById, this::findByIdAndMemberId);
+    }
 }
@@ -0,0 +1,25 @@
+package com.kimtaeyang.mobidic.repository;
+
+import com.kimtaeyang.mobidic.entity.SyncChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncChangeRepository extends JpaRepository<SyncChange, UUID> {
+    //idx_sync_change_member_revision 인덱스 사용
+    @Query("select c from SyncChange c where c.memberId = :memberId and c.revision > :revision order by c.revision")
+    List<SyncChange> findByMemberIdAfter(UUID memberId, long revision, Limit limit);
+
+    //단어장 자신의 기록은 tombstone 으로 남기고 하위 리소스 기록만 삭제
+    @Modifying
+    @Query("delete from SyncChange c where c.vocabId = :vocabId and c.resourceId <> :vocabId")
+    void deleteChildrenByVocabId(UUID vocabId);
+
+    @Modifying
+    @Query("delete from SyncChange c where c.memberId = :memberId")
+    void deleteByMemberId(UUID memberId);
+}
@@ -2,9 +2,15 @@ package com.kimtaeyang.mobidic.repository;
 
 import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +20,37 @@ public interface VocabRepository extends JpaRepository<Vocab, UUID> {
     List<Vocab> findByMember(Member member);
 
     Optional<Vocab> findByTitle(String title);
+
+    @Query("select v.member.id from Vocab v where v.id = :vocabId")
+    Optional<UUID> findMemberIdById(UUID vocabId);
+
+    @Query("select v from Vocab v join fetch v.member m where v.id = :vocabId and m.id = :memberId")
+    Optional<Vocab> findByIdAndMemberId(UUID vocabId, UUID memberId);
+
+    @Query("select v from Vocab v where v.id in :vocabIds and v.member.id = :memberId")
+    List<Vocab> findAllByIdAndMemberId(Collection<UUID> vocabIds, UUID memberId);
+
+    @Query("select v.revision from Vocab v where v.id = :vocabId")
+    Optional<Long> findRevisionById(UUID vocabId);
+
+    @Query("select v.revision from Vocab v where v.id = :vocabId and v.member.id = :memberId")
+    Optional<Long> findRevisionByIdAndMemberId(UUID vocabId, UUID memberId);
+
+    //회원 행 잠금 안에서 호출되므로 단어장 revision 도 커밋 순서대로 증가
+    @Modifying
+    @Query("update Vocab v set v.revision = :revision where v.id in :vocabIds")
+    void updateRevision(Collection<UUID> vocabIds, long revision);
+
+    default Optional<Vocab> findById(UUID vocabId, MemberScope memberScope) {
+        return memberScope.findById(vocabId, this::findById, this::findByIdAndMemberId);
+    }
+
+    //커서 페이지 조회, idx_vocab_member_created 인덱스 사용
+    @Query("select v from Vocab v where v.member.id = :memberId order by v.createdAt, v.id")
+    List<Vocab> findPageByMemberId(UUID memberId, Limit limit);
+
+    @Query("select v from Vocab v where v.member.id = :memberId " +
+            "and (v.createdAt > :createdAt or (v.createdAt = :createdAt and v.id > :vocabId)) " +
+            "order by v.createdAt, v.id")
+    List<Vocab> findPageByMemberId(UUID memberId, Timestamp createdAt, UUID vocabId, Limit limit);
 }
\ No newline at end of file
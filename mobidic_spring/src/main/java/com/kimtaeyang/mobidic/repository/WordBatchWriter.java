@@ -0,0 +1,124 @@
+package com.kimtaeyang.mobidic.repository;
+
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.WordImportDto;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.SyncType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * 대량 등록용 JDBC 배치 쓰기.
+ * 단어, 학습률, 뜻을 각각 한 번의 batch insert 로 저장하며 엔티티를 거치지 않는다.
+ * MySQL 에서는 rewriteBatchedStatements=true 여야 multi-row insert 로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WordBatchWriter {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    //반환값은 key() 로 정규화된 값
+    public Set<String> findExistingExpressions(Collection<String> expressions) {
+        if (expressions.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return keys(namedParameterJdbcTemplate.queryForList(
+                "select expression from word where expression in (:expressions)",
+                Map.of("expressions", expressions), String.class));
+    }
+
+    //반환값은 key() 로 정규화된 값
+    public Set<String> findExistingDefinitions(Collection<String> definitions) {
+        if (definitions.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        return keys(namedParameterJdbcTemplate.queryForList(
+                "select definition from def where definition in (:definitions)",
+                Map.of("definitions", definitions), String.class));
+    }
+
+    //저장한 단어, 뜻 id 를 동기화 기록용으로 반환
+    public Map<SyncType, List<UUID>> insert(UUID vocabId, List<WordImportDto.Row> rows) {
+        List<UUID> wordIds = new ArrayList<>(rows.size());
+        List<UUID> defIds = new ArrayList<>();
+        List<Object[]> words = new ArrayList<>(rows.size());
+        List<Object[]> rates = new ArrayList<>(rows.size());
+        List<Object[]> defs = new ArrayList<>();
+
+        byte[] vocabIdBytes = toBytes(vocabId);
+        for (WordImportDto.Row row : rows) {
+            UUID id = UUID.randomUUID();
+            wordIds.add(id);
+            byte[] wordId = toBytes(id);
+            words.add(new Object[]{wordId, vocabIdBytes, row.getExpression()});
+            rates.add(new Object[]{wordId, vocabIdBytes, 0, 0, 0, Difficulty.of(0, 0).ordinal()});
+
+            if (row.getDefs() == null) {
+                continue;
+            }
+            for (AddDefDto.Request def : row.getDefs()) {
+                UUID defId = UUID.randomUUID();
+                defIds.add(defId);
+                defs.add(new Object[]{toBytes(defId), wordId, def.getDefinition(), def.getPart().name()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into word (id, vocab_id, expression) values (?, ?, ?)", words);
+        jdbcTemplate.batchUpdate(
+                "insert into word_rate (word_id, vocab_id, correct_count, incorrect_count, is_learned, difficulty) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                rates);
+        if (!defs.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into def (id, word_id, definition, part) values (?, ?, ?, ?)", defs);
+        }
+
+        return Map.of(SyncType.WORD, wordIds, SyncType.DEF, defIds);
+    }
+
+    //새 리소스의 변경 기록, revision 부터 하나씩 증가
+    public void insertChanges(UUID memberId, UUID vocabId, SyncType type, List<UUID> resourceIds, long revision) {
+        List<Object[]> changes = new ArrayList<>(resourceIds.size());
+        byte[] memberIdBytes = toBytes(memberId);
+        byte[] vocabIdBytes = toBytes(vocabId);
+        for (UUID resourceId : resourceIds) {
+            changes.add(new Object[]{toBytes(resourceId), memberIdBytes, vocabIdBytes, type.name(), revision++, false});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "insert into sync_change (resource_id, member_id, vocab_id, type, revision, deleted) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                changes);
+    }
+
+    /**
+     * 표현, 뜻의 중복 비교용 key.
+     * 유일 인덱스가 MySQL 기본 collation 으로 대소문자를 구분하지 않으므로 같은 기준으로 비교한다.
+     */
+    public static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> keys(List<String> values) {
+        Set<String> keys = new HashSet<>(values.size());
+        values.forEach((value) -> keys.add(key(value)));
+        return keys;
+    }
+
+    //Hibernate 의 BINARY(16) UUID 저장 방식과 동일한 순서
+    static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
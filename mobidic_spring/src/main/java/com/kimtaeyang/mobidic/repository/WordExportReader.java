@@ -0,0 +1,97 @@
+package com.kimtaeyang.mobidic.repository;
+
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.WordExportDto;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 내보내기용 chunk 조회.
+ * 단어는 idx_word_vocab_created (vocab_id, created_at, id) 순서 그대로 keyset 으로 chunk 크기만큼 읽어 정렬 작업이 없고,
+ * 뜻은 chunk 의 단어 id 로 한 번에 읽는다. 단어와 뜻을 한 쿼리로 join 하면 뜻 id 까지 정렬해야 해 filesort 가 생긴다.
+ * 메모리에는 현재 chunk 만 유지되므로 단어장 크기와 관계없이 힙 사용량이 일정하다.
+ */
+@Repository
+public class WordExportReader {
+    private static final String SELECT_WORDS = "select w.id, w.expression, w.created_at, "
+            + "r.correct_count, r.incorrect_count, r.is_learned "
+            + "from word w "
+            + "left join word_rate r on r.word_id = w.id "
+            + "where w.vocab_id = :vocabId ";
+    private static final String AFTER_LAST = "and (w.created_at > :createdAt or (w.created_at = :createdAt and w.id > :id)) ";
+    private static final String ORDER_BY = "order by w.created_at, w.id limit :limit";
+    private static final String SELECT_DEFS = "select word_id, definition, part from def "
+            + "where word_id in (:wordIds) order by id";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int chunkSize;
+
+    public WordExportReader(
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            @Value("${word.export.chunk-size:500}") int chunkSize
+    ) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public void forEachByVocabId(UUID vocabId, Consumer<WordExportDto.Row> consumer) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("vocabId", WordBatchWriter.toBytes(vocabId));
+        params.put("limit", chunkSize);
+
+        String sql = SELECT_WORDS + ORDER_BY;
+        while (true) {
+            List<WordChunkRow> words = namedParameterJdbcTemplate.query(sql, params, (rs, rowNum) -> new WordChunkRow(
+                    rs.getBytes("id"),
+                    rs.getTimestamp("created_at"),
+                    WordExportDto.Row.builder()
+                            .expression(rs.getString("expression"))
+                            .defs(new ArrayList<>())
+                            .correctCount(rs.getInt("correct_count"))
+                            .incorrectCount(rs.getInt("incorrect_count"))
+                            .isLearned(rs.getInt("is_learned"))
+                            .build()));
+            if (words.isEmpty()) {
+                return;
+            }
+
+            fillDefs(words);
+            words.forEach((word) -> consumer.accept(word.row()));
+            if (words.size() < chunkSize) {
+                return;
+            }
+
+            //마지막 단어 다음부터 이어서 읽는다
+            WordChunkRow last = words.getLast();
+            params.put("createdAt", last.createdAt());
+            params.put("id", last.id());
+            sql = SELECT_WORDS + AFTER_LAST + ORDER_BY;
+        }
+    }
+
+    private void fillDefs(List<WordChunkRow> words) {
+        Map<ByteBuffer, List<AddDefDto.Request>> defs = new HashMap<>();
+        List<byte[]> wordIds = new ArrayList<>(words.size());
+        for (WordChunkRow word : words) {
+            defs.put(ByteBuffer.wrap(word.id()), word.row().getDefs());
+            wordIds.add(word.id());
+        }
+
+        namedParameterJdbcTemplate.query(SELECT_DEFS, Map.of("wordIds", wordIds), (rs) -> {
+            defs.get(ByteBuffer.wrap(rs.getBytes("word_id"))).add(AddDefDto.Request.builder()
+                    .definition(rs.getString("definition"))
+                    .part(PartOfSpeech.valueOf(rs.getString("part")))
+                    .build());
+        });
+    }
+
+    private record WordChunkRow(byte[] id, Timestamp createdAt, WordExportDto.Row row) {
+    }
+}
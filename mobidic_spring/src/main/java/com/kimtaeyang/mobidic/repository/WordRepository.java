@@ -1,9 +1,16 @@
 package com.kimtaeyang.mobidic.repository;
 
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
 import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +19,79 @@ public interface WordRepository extends JpaRepository<Word, UUID> {
     List<Word> findByVocab(Vocab vocab);
 
     Optional<Word> findByExpression(String expression);
+
+    //학습률이 없는 단어도 난이도 null 로 포함해 findByVocab 과 같은 단어를 돌려준다
+    @Query("select w as word, r.difficulty as difficulty from Word w left join Rate r on r.word = w " +
+            "where w.vocab.id = :vocabId")
+    List<WordDifficulty> findWithDifficultyByVocabId(UUID vocabId);
+
+    //자동완성 색인 생성용, 엔티티 없이 필요한 열만 조회
+    @Query("select new com.kimtaeyang.mobidic.dto.WordSuggestDto(w.id, w.vocab.id, w.expression) " +
+            "from Word w where w.vocab.member.id = :memberId")
+    List<WordSuggestDto> findSuggestionsByMemberId(UUID memberId);
+
+    @Query("select w.vocab.member.id from Word w where w.id = :wordId")
+    Optional<UUID> findMemberIdById(UUID wordId);
+
+    @Query("select w from Word w join fetch w.vocab v join fetch v.member m " +
+            "where w.id = :wordId and m.id = :memberId")
+    Optional<Word> findByIdAndMemberId(UUID wordId, UUID memberId);
+
+    @Query("select w from Word w where w.id in :wordIds and w.vocab.member.id = :memberId")
+    List<Word> findAllByIdAndMemberId(Collection<UUID> wordIds, UUID memberId);
+
+    @Query("select w.vocab.revision from Word w where w.id = :wordId")
+    Optional<Long> findVocabRevisionById(UUID wordId);
+
+    @Query("select w.vocab.revision from Word w where w.id = :wordId and w.vocab.member.id = :memberId")
+    Optional<Long> findVocabRevisionByIdAndMemberId(UUID wordId, UUID memberId);
+
+    default Optional<Word> findById(UUID wordId, MemberScope memberScope) {
+        return memberScope.findById(wordId, this::findById, this::findByIdAndMemberId);
+    }
+
+    //커서 페이지 조회, idx_word_vocab_created / idx_word_vocab_expression / idx_rate_vocab_difficulty 인덱스 사용
+    //difficulty 가 null 이면 난이도 조건 없음 (값이 바인딩된 뒤 상수 조건으로 제거된다)
+    @Query("select w from Word w join Rate r on r.word = w where w.vocab.id = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "order by w.createdAt, w.id")
+    List<Word> findPageOrderByCreatedAt(UUID vocabId, Difficulty difficulty, Limit limit);
+
+    @Query("select w from Word w join Rate r on r.word = w where w.vocab.id = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "and (w.createdAt > :createdAt or (w.createdAt = :createdAt and w.id > :wordId)) " +
+            "order by w.createdAt, w.id")
+    List<Word> findPageOrderByCreatedAt(
+            UUID vocabId, Difficulty difficulty, Timestamp createdAt, UUID wordId, Limit limit);
+
+    @Query("select w from Word w join Rate r on r.word = w where w.vocab.id = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "order by w.expression, w.id")
+    List<Word> findPageOrderByExpression(UUID vocabId, Difficulty difficulty, Limit limit);
+
+    @Query("select w from Word w join Rate r on r.word = w where w.vocab.id = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "and (w.expression > :expression or (w.expression = :expression and w.id > :wordId)) " +
+            "order by w.expression, w.id")
+    List<Word> findPageOrderByExpression(
+            UUID vocabId, Difficulty difficulty, String expression, UUID wordId, Limit limit);
+
+    //어려운 단어부터
+    @Query("select w from Word w join Rate r on r.word = w where r.vocabId = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "order by r.difficulty desc, r.wordId desc")
+    List<Word> findPageOrderByDifficulty(UUID vocabId, Difficulty difficulty, Limit limit);
+
+    @Query("select w from Word w join Rate r on r.word = w where r.vocabId = :vocabId " +
+            "and (:difficulty is null or r.difficulty = :difficulty) " +
+            "and (r.difficulty < :lastDifficulty or (r.difficulty = :lastDifficulty and r.wordId < :wordId)) " +
+            "order by r.difficulty desc, r.wordId desc")
+    List<Word> findPageOrderByDifficulty(
+            UUID vocabId, Difficulty difficulty, Difficulty lastDifficulty, UUID wordId, Limit limit);
+
+    interface WordDifficulty {
+        Word getWord();
+
+        Difficulty getDifficulty();
+    }
 }
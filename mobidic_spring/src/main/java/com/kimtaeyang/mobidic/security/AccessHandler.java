@@ -1,12 +1,21 @@
 package com.kimtaeyang.mobidic.security;
 
 import com.kimtaeyang.mobidic.entity.Member;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public abstract class AccessHandler {
+    private ResolvedResources resolvedResources;
+
+    @Autowired
+    void setResolvedResources(ResolvedResources resolvedResources) {
+        this.resolvedResources = resolvedResources;
+    }
+
     public final boolean ownershipCheck(UUID resourceId) {
         return isResourceOwner(resourceId);
     }
@@ -15,5 +24,18 @@ public abstract class AccessHandler {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         return ((Member) auth.getPrincipal()).getId();
     }
-    abstract boolean isResourceOwner(UUID resourceId);
+
+    boolean isResourceOwner(UUID resourceId) {
+        return resolveOwnerId(resourceId)
+                .filter((ownerId) -> getCurrentMemberId().equals(ownerId))
+                .isPresent();
+    }
+
+    //같은 요청 안에서 이미 확인한 소유자는 다시 조회하지 않음
+    final Optional<UUID> resolveOwnerId(UUID resourceId) {
+        return resolvedResources.getOwnerId(resourceId, this::findOwnerId);
+    }
+
+    //엔티티 전체가 아닌 소유 회원 id 한 컬럼만 조회
+    abstract Optional<UUID> findOwnerId(UUID resourceId);
 }
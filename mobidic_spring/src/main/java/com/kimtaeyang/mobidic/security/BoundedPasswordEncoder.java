@@ -0,0 +1,116 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.exception.RetryableApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.AUTH_BUSY;
+
+/**
+ * BCrypt 해싱/검증을 크기가 제한된 전용 스레드 풀에서 수행하는 PasswordEncoder.
+ * 로그인 폭주 시에도 해싱에 쓰이는 CPU 는 풀 크기로 제한되고,
+ * 대기열이 가득 차면 즉시 429 (Retry-After) 로 거절한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int poolSize,
+            int queueSize,
+            long timeoutMillis,
+            long retryAfterSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        BlockingQueue<Runnable> queue = queueSize > 0
+                ? new ArrayBlockingQueue<>(queueSize)
+                : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                (r) -> {
+                    Thread thread = new Thread(r, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hashTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt hash/verify latency")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", executor, (e) -> e.getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new RetryableApiException(AUTH_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new RetryableApiException(AUTH_BUSY, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.kimtaeyang.mobidic.security;
 
 import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.exception.AuthAuthenticationEntryPoint;
+import com.kimtaeyang.mobidic.type.RevocationStatus;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +26,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
     private final JwtBlacklistService jwtBlacklistService;
     private final AuthAuthenticationEntryPoint authAuthenticationEntryPoint;
 
@@ -38,13 +41,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7); // "Bearer " 제거
 
+        //토큰 파싱 및 서명 검증은 요청당 한 번만 수행
+        Claims claims = jwtVerifier.verify(token).orElse(null);
+
         try{
-            if (!jwtUtil.validateToken(token)
-                    || jwtBlacklistService.isTokenLogout(token)
-                    || jwtBlacklistService.isTokenWithdrawn(token)
-            ) {
+            if (claims == null) {
                 throw new BadCredentialsException("Invalid token");
             }
+
+            RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+            if (status != RevocationStatus.VALID) {
+                throw new BadCredentialsException("Revoked token : " + status);
+            }
         } catch (AuthenticationException e){
             SecurityContextHolder.clearContext();
             authAuthenticationEntryPoint.commence(request, response, e);
@@ -52,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         //JWT Claim 에 포함된 정보만 갖는 Member 객체
-        UUID id = jwtUtil.getIdFromToken(token);
+        UUID id = jwtUtil.getIdFromClaims(claims);
         Member claim = Member.builder()
                 .id(id)
                 .build();
@@ -1,56 +1,183 @@
 package com.kimtaeyang.mobidic.security;
 
+import com.kimtaeyang.mobidic.config.JwtProperties;
 import com.kimtaeyang.mobidic.exception.ApiException;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import com.kimtaeyang.mobidic.type.RevocationStatus;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 
 import static com.kimtaeyang.mobidic.code.AuthResponseCode.INVALID_TOKEN;
 
 @Service
-@RequiredArgsConstructor
 public class JwtBlacklistService {
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtUtil jwtUtil;
-    private static final String LOGOUT_PREFIX = "logout:";
-    private static final String WITHDRAWN_PREFIX = "withdraw:";
-    @Value("${jwt.exp}")
-    private Long exp;
+    private final RevocationNearCache revocationNearCache;
+    private final MemberTokenEpochCache memberTokenEpochCache;
+    private final JwtProperties jwtProperties;
+    private final Timer roundTripTimer;
+    static final String LOGOUT_PREFIX = "logout:";
+    static final String EPOCH_PREFIX = "epoch:";
+    //epoch 도입 전 탈퇴 기록. 남아 있는 동안(최대 jwt.exp) 현재 시각을 epoch 으로 본다
+    static final String LEGACY_WITHDRAW_PREFIX = "withdraw:";
+
+    public JwtBlacklistService(
+            RedisTemplate<String, String> redisTemplate,
+            JwtUtil jwtUtil,
+            RevocationNearCache revocationNearCache,
+            MemberTokenEpochCache memberTokenEpochCache,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.revocationNearCache = revocationNearCache;
+        this.memberTokenEpochCache = memberTokenEpochCache;
+        this.jwtProperties = jwtProperties;
+        this.roundTripTimer = Timer.builder("jwt.blacklist.redis.round-trip")
+                .description("Redis round trip of a single revocation check")
+                .register(meterRegistry);
+    }
 
     public void logoutToken(String token) {
-        long remain = jwtUtil.getExpirationFromToken(token).getTime() - System.currentTimeMillis();
+        Claims claims = jwtUtil.parseClaims(token);
+        long remain = claims.getExpiration().getTime() - System.currentTimeMillis();
 
-        if(isTokenLogout(token)) {
+        if(isTokenLogout(token, claims)) {
             throw new ApiException(INVALID_TOKEN);
         }
 
+        String key = LOGOUT_PREFIX + jwtUtil.getRevocationId(token, claims);
         redisTemplate.opsForValue().set(
-                LOGOUT_PREFIX + token,
+                key,
                 "true",
                 Duration.ofMillis(remain)
         );
+        revocationNearCache.publish(key);
     }
 
     public void withdrawToken(String token) {
-        if(isTokenLogout(token)) {
-            throw new ApiException(INVALID_TOKEN);
-        }
+        //현재 토큰은 로그아웃 키로도 폐기 (이미 로그아웃된 토큰이면 예외)
+        logoutToken(token);
+        revokeMemberTokens(jwtUtil.getIdFromToken(token));
+    }
+
+    /**
+     * 회원의 모든 기기에서 발급된 토큰을 한 번에 폐기한다.
+     * 현재 시각(초)과 같거나 이전 초에 발급된 토큰은 이후 checkRevocation 에서 거부된다.
+     */
+    public void revokeMemberTokens(UUID memberId) {
+        long epoch = System.currentTimeMillis() / 1000;
 
+        //refresh token family 도 epoch 으로 폐기되므로 더 긴 쪽의 수명만큼 보관
         redisTemplate.opsForValue().set(
-                WITHDRAWN_PREFIX + jwtUtil.getIdFromToken(token),
-                "true",
-                Duration.ofMillis(exp)
+                EPOCH_PREFIX + memberId,
+                String.valueOf(epoch),
+                Duration.ofMillis(Math.max(jwtProperties.getJwtExp(), jwtProperties.getRefreshExp()))
         );
+        memberTokenEpochCache.publish(memberId, epoch);
+    }
+
+    public long getMemberEpoch(UUID memberId) {
+        Long epoch = memberTokenEpochCache.getIfPresent(memberId);
+        if (epoch == null) {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(EPOCH_PREFIX + memberId, LEGACY_WITHDRAW_PREFIX + memberId));
+            epoch = toEpoch(values == null ? null : values.get(0), values == null ? null : values.get(1));
+            memberTokenEpochCache.fill(memberId, epoch);
+        }
+        return epoch;
+    }
+
+    private long toEpoch(Object epochValue, Object withdrawValue) {
+        long epoch = epochValue == null ? MemberTokenEpochCache.NONE : Long.parseLong(epochValue.toString());
+        if (withdrawValue != null) {
+            epoch = Math.max(epoch, System.currentTimeMillis() / 1000);
+        }
+        return epoch;
+    }
+
+    private boolean isTokenLogout(String token, Claims claims) {
+        String key = LOGOUT_PREFIX + jwtUtil.getRevocationId(token, claims);
+        if (revocationNearCache.mightBeRevoked(key) && redisTemplate.hasKey(key)) {
+            return true;
+        }
+
+        String legacyKey = legacyLogoutKey(token, claims);
+        return legacyKey != null && redisTemplate.hasKey(legacyKey);
     }
 
-    public boolean isTokenLogout(String token) {
-        return redisTemplate.hasKey(LOGOUT_PREFIX + token);
+    /**
+     * jti 도입 전에 발급된 토큰은 logout:&lt;토큰 전체&gt; 로 로그아웃되었을 수 있다.
+     * 이런 토큰은 jti 가 없으므로 jti 가 없을 때만 이전 키도 확인하고, 모두 만료되면 더 이상 조회하지 않는다.
+     * 이전 노드가 배포 중에 쓴 키는 near-cache 에 publish 되지 않으므로 near-cache 를 거치지 않는다.
+     */
+    private String legacyLogoutKey(String token, Claims claims) {
+        return claims.getId() == null ? LOGOUT_PREFIX + token : null;
     }
 
-    public boolean isTokenWithdrawn(String token) {
-        return redisTemplate.hasKey(WITHDRAWN_PREFIX + jwtUtil.getIdFromToken(token));
+    /**
+     * 로그아웃 여부와 회원 epoch 을 최대 한 번의 Redis 왕복(pipeline)으로 확인한다.
+     * near-cache 에서 폐기 가능성이 없는 로그아웃 키와 로컬에 캐싱된 epoch 은 조회하지 않는다.
+     */
+    public RevocationStatus checkRevocation(String token, Claims claims) {
+        String logoutKey = LOGOUT_PREFIX + jwtUtil.getRevocationId(token, claims);
+        String legacyKey = legacyLogoutKey(token, claims);
+        UUID memberId = jwtUtil.getIdFromClaims(claims);
+
+        boolean checkLogout = revocationNearCache.mightBeRevoked(logoutKey);
+        Long epoch = memberTokenEpochCache.getIfPresent(memberId);
+
+        //이전 형식 토큰은 배포 중 이전 노드가 쓴 withdraw: 키를 놓치지 않도록 캐시된 epoch 이 있어도 다시 읽는다
+        boolean fetchEpoch = epoch == null || legacyKey != null;
+        if (checkLogout || fetchEpoch) {
+            byte[] epochKey = (EPOCH_PREFIX + memberId).getBytes(StandardCharsets.UTF_8);
+            byte[] withdrawKey = (LEGACY_WITHDRAW_PREFIX + memberId).getBytes(StandardCharsets.UTF_8);
+
+            List<Object> results = roundTripTimer.record(() -> redisTemplate.executePipelined(
+                    (RedisCallback<Object>) (RedisConnection connection) -> {
+                        if (checkLogout) {
+                            connection.keyCommands().exists(logoutKey.getBytes(StandardCharsets.UTF_8));
+                        }
+                        if (legacyKey != null) {
+                            connection.keyCommands().exists(legacyKey.getBytes(StandardCharsets.UTF_8));
+                        }
+                        if (fetchEpoch) {
+                            connection.stringCommands().get(epochKey);
+                            connection.stringCommands().get(withdrawKey);
+                        }
+                        return null;
+                    }));
+
+            //pipeline 결과는 명령 순서대로
+            int index = 0;
+            if (checkLogout && Boolean.TRUE.equals(results.get(index++))) {
+                return RevocationStatus.LOGGED_OUT;
+            }
+            if (legacyKey != null && Boolean.TRUE.equals(results.get(index++))) {
+                return RevocationStatus.LOGGED_OUT;
+            }
+            if (fetchEpoch) {
+                epoch = toEpoch(results.get(index), results.get(index + 1));
+                memberTokenEpochCache.fill(memberId, epoch);
+            }
+        }
+
+        //iat 와 epoch 은 초 단위이므로 폐기와 같은 초에 발급된 토큰도 거부
+        long issuedAt = claims.getIssuedAt().getTime() / 1000;
+        if (issuedAt <= epoch) {
+            return RevocationStatus.MEMBER_REVOKED;
+        }
+        return RevocationStatus.VALID;
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,17 @@ package com.kimtaeyang.mobidic.security;
 
 import com.kimtaeyang.mobidic.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
@@ -14,11 +20,23 @@ import java.util.UUID;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtUtil {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String FAMILY_CLAIM = "fid";
     private final JwtProperties jwtProperties;
 
+    //JwtParser 는 thread-safe 하므로 한 번만 생성해 재사용
+    private volatile JwtParser jwtParser;
+
     public String generateToken(UUID userId) {
+        return generateToken(userId, null);
+    }
+
+    //familyId : 토큰이 속한 refresh token family (로그아웃 시 함께 폐기)
+    public String generateToken(UUID userId, String familyId) {
         return Jwts.builder()
+                    .id(generateTokenId())
                     .subject(userId.toString())
+                    .claim(FAMILY_CLAIM, familyId)
                     .issuedAt(new Date())
                     .expiration(new Date(System.currentTimeMillis() + jwtProperties.getJwtExp()))
                     .signWith(jwtProperties.getSecretKey())
@@ -27,10 +45,7 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(jwtProperties.getSecretKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             Date date = new Date();
@@ -40,21 +55,61 @@ public class JwtUtil {
     }
 
     public UUID getIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtProperties.getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return UUID.fromString(claims.getSubject());
+        return getIdFromClaims(parseClaims(token));
     }
 
     public Date getExpirationFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(jwtProperties.getSecretKey())
-                .build()
+        return parseClaims(token).getExpiration();
+    }
+
+    public Claims parseClaims(String token) {
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
+    }
+
+    public UUID getIdFromClaims(Claims claims) {
+        return UUID.fromString(claims.getSubject());
+    }
 
-        return claims.getExpiration();
+    public String getFamilyIdFromClaims(Claims claims) {
+        return claims.get(FAMILY_CLAIM, String.class);
+    }
+
+    /**
+     * 블랙리스트 키로 사용할 고정 길이 토큰 식별자.
+     * jti 가 없는 이전 토큰은 토큰 전체의 digest 를 사용한다.
+     */
+    public String getRevocationId(String token, Claims claims) {
+        String jti = claims.getId();
+        return jti != null ? jti : digest(token);
+    }
+
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //128bit 난수를 base64url 로 인코딩한 22자 식별자
+    private static String generateTokenId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(jwtProperties.getSecretKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
 }
@@ -0,0 +1,70 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 한 번만 JWT 를 파싱/서명 검증하고, 검증된 Claims 를 토큰 digest 기준으로 만료 시각까지 캐싱한다.
+ * 같은 토큰으로 반복 호출하는 모바일 클라이언트는 서명 검증을 건너뛴다.
+ */
+@Component
+@Slf4j
+public class JwtVerifier {
+    private final JwtUtil jwtUtil;
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtVerifier(JwtUtil jwtUtil, JwtProperties jwtProperties) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new ClaimsExpiry())
+                .build();
+    }
+
+    public Optional<Claims> verify(String token) {
+        String digest = JwtUtil.digest(token);
+
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(token);
+        } catch (Exception e) {
+            log.error("Invalid JWT token inspected : {} {}", e.getMessage(), new Date());
+            return Optional.empty();
+        }
+
+        verifiedTokens.put(digest, claims);
+        return Optional.of(claims);
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remain = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remain, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
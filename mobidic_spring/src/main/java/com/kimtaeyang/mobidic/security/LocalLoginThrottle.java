@@ -0,0 +1,39 @@
+package com.kimtaeyang.mobidic.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "auth.throttle.mode", havingValue = "local", matchIfMissing = true)
+public class LocalLoginThrottle implements LoginThrottle {
+    private static final int STRIPES = 1 << 16;
+
+    private final StripedRateLimiter emailLimiter;
+    private final StripedRateLimiter ipLimiter;
+
+    public LocalLoginThrottle(
+            @Value("${auth.throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.throttle.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.throttle.period:60000}") long period
+    ) {
+        long periodNanos = TimeUnit.MILLISECONDS.toNanos(period);
+        this.emailLimiter = new StripedRateLimiter(STRIPES, emailCapacity, periodNanos);
+        this.ipLimiter = new StripedRateLimiter(STRIPES, ipCapacity, periodNanos);
+    }
+
+    @Override
+    public boolean tryAcquire(String email, String ip) {
+        if (!ipLimiter.tryAcquire(ip)) {
+            return false;
+        }
+        //이메일 bucket 이 거절하면 IP bucket 에서 가져간 토큰을 되돌려 두 bucket 을 함께 확인한 것과 같게 한다
+        if (email != null && !emailLimiter.tryAcquire(email)) {
+            ipLimiter.release(ip);
+            return false;
+        }
+        return true;
+    }
+}
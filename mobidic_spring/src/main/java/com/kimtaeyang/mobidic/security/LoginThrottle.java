@@ -0,0 +1,12 @@
+package com.kimtaeyang.mobidic.security;
+
+/**
+ * 로그인 시도 제한. 이메일과 클라이언트 IP 각각의 token bucket 을 모두 통과해야 한다.
+ */
+public interface LoginThrottle {
+    /**
+     * @param email 소문자로 정규화된 이메일, 본문에서 읽을 수 없으면 null
+     * @return 허용되면 true
+     */
+    boolean tryAcquire(String email, String ip);
+}
@@ -0,0 +1,144 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.TOO_MANY_LOGIN_ATTEMPTS;
+
+/**
+ * 로그인 요청을 인증(BCrypt, DB 조회) 이전에 이메일/IP 단위로 제한한다.
+ * 요청이 auth.throttle.trusted-proxies(IP 또는 CIDR, 쉼표 구분)에서 왔을 때만 X-Forwarded-For 로 클라이언트 IP 를 찾는다.
+ */
+@Component
+@Slf4j
+public class LoginThrottleFilter extends OncePerRequestFilter {
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final LoginThrottle loginThrottle;
+    private final ObjectMapper objectMapper;
+    private final long retryAfter;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public LoginThrottleFilter(
+            LoginThrottle loginThrottle,
+            ObjectMapper objectMapper,
+            @Value("${auth.throttle.retry-after:12}") long retryAfter,
+            @Value("${auth.throttle.trusted-proxies:}") List<String> trustedProxies
+    ) {
+        this.loginThrottle = loginThrottle;
+        this.objectMapper = objectMapper;
+        this.retryAfter = retryAfter;
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter((proxy) -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !("POST".equals(request.getMethod())
+                && LOGIN_PATH.equals(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+
+        String email = extractEmail(body);
+        String ip = resolveClientIp(request);
+
+        if (!loginThrottle.tryAcquire(email, ip)) {
+            log.warn("Login throttled : email={}, ip={}", email, ip);
+            reject(response);
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequestWrapper(request, body), response);
+    }
+
+    //신뢰하는 프록시가 붙인 X-Forwarded-For 를 오른쪽부터 읽어 처음 나오는 신뢰하지 않는 주소를 클라이언트로 본다
+    //그보다 왼쪽 값은 클라이언트가 임의로 보낼 수 있으므로 사용하지 않는다
+    String resolveClientIp(HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        String forwardedFor = request.getHeader(X_FORWARDED_FOR);
+        if (forwardedFor == null || !isTrustedProxy(ip)) {
+            return ip;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty()) {
+                break;
+            }
+            ip = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return ip;
+    }
+
+    private boolean isTrustedProxy(String ip) {
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(ip)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                //IP 형식이 아닌 값
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        ErrorResponse<?> errorResponse = ErrorResponse.builder()
+                .errors(null)
+                .status(TOO_MANY_LOGIN_ATTEMPTS.getStatus().value())
+                .message(TOO_MANY_LOGIN_ATTEMPTS.getMessage())
+                .build();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(errorResponse.getStatus());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
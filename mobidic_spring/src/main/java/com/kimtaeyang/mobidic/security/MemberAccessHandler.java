@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -17,8 +18,13 @@ public class MemberAccessHandler extends AccessHandler {
 
     @Override
     boolean isResourceOwner(UUID resourceId) {
-        return memberRepository.findById(resourceId)
-                .filter((m) -> getCurrentMemberId().equals(resourceId))
-                .isPresent();
+        return getCurrentMemberId().equals(resourceId)
+                && resolveOwnerId(resourceId).isPresent();
+    }
+
+    @Override
+    Optional<UUID> findOwnerId(UUID resourceId) {
+        return Optional.of(resourceId)
+                .filter(memberRepository::existsById);
     }
 }
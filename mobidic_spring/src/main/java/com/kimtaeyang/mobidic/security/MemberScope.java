@@ -0,0 +1,48 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.entity.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 조회 쿼리를 현재 로그인한 회원의 리소스로 제한하는 접근 모드.
+ * auth.access.scoped=true 이면 조회 쿼리 하나로 권한 확인과 조회를 함께 처리하고,
+ * @PreAuthorize 의 소유권 사전 확인은 생략된다.
+ * 존재하지 않는 리소스와 다른 회원의 리소스는 구분 없이 NO_XXX 로 응답한다.
+ */
+@Component
+public class MemberScope {
+    private final boolean scoped;
+
+    public MemberScope(@Value("${auth.access.scoped:false}") boolean scoped) {
+        this.scoped = scoped;
+    }
+
+    public boolean isScoped() {
+        return scoped;
+    }
+
+    public UUID getCurrentMemberId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return ((Member) auth.getPrincipal()).getId();
+    }
+
+    public <T> Optional<T> findById(
+            UUID id,
+            Function<UUID, Optional<T>> finder,
+            BiFunction<UUID, UUID, Optional<T>> scopedFinder
+    ) {
+        if (!scoped) {
+            return finder.apply(id);
+        }
+
+        return scopedFinder.apply(id, getCurrentMemberId());
+    }
+}
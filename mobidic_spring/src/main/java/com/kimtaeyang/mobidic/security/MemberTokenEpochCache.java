@@ -0,0 +1,85 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 회원별 "이 시각 이전에 발급된 토큰은 무효" epoch(초)의 로컬 캐시.
+ * 원본은 Redis 의 epoch:&lt;memberId&gt; 이며, 변경 시 pub/sub 으로 모든 노드의 캐시가 갱신된다.
+ * epoch 이 없는 회원은 0 으로 캐싱해 이후 조회에서 Redis 를 호출하지 않는다.
+ */
+@Component
+@Slf4j
+public class MemberTokenEpochCache implements MessageListener {
+    static final String CHANNEL = "jwt:epoch";
+    static final long NONE = 0L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<UUID, Long> epochs;
+
+    public MemberTokenEpochCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.epoch-cache.size:100000}") long size,
+            @Value("${jwt.epoch-cache.ttl:600000}") long ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        //pub/sub 메시지를 놓친 경우에 대비해 일정 시간 후 Redis 에서 다시 읽는다
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Long getIfPresent(UUID memberId) {
+        return epochs.getIfPresent(memberId);
+    }
+
+    /**
+     * Redis 조회 결과로 캐시를 채운다.
+     * 조회 도중 pub/sub 으로 더 최신 값이 들어왔다면 덮어쓰지 않는다.
+     */
+    public void fill(UUID memberId, long epoch) {
+        epochs.asMap().putIfAbsent(memberId, epoch);
+    }
+
+    public void publish(UUID memberId, long epoch) {
+        update(memberId, epoch);
+        redisTemplate.convertAndSend(CHANNEL, memberId + ":" + epoch);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        try {
+            update(UUID.fromString(body[0]), Long.parseLong(body[1]));
+        } catch (RuntimeException e) {
+            log.error("Invalid token epoch message : {}", e.getMessage());
+        }
+    }
+
+    //epoch 은 증가만 하므로 더 큰 값만 반영
+    private void update(UUID memberId, long epoch) {
+        epochs.asMap().merge(memberId, epoch, Math::max);
+    }
+}
@@ -1,13 +1,11 @@
 package com.kimtaeyang.mobidic.security;
 
-import com.kimtaeyang.mobidic.entity.Rate;
-import com.kimtaeyang.mobidic.entity.Vocab;
-import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.repository.RateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -15,14 +13,10 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class RateAccessHandler extends AccessHandler {
     private final RateRepository rateRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
 
     @Override
-    boolean isResourceOwner(UUID resourceId) {
-        return rateRepository.findById(resourceId)
-                .map(Rate::getWord)
-                .map(Word::getVocab)
-                .map(Vocab::getMember)
-                .filter((m) -> getCurrentMemberId().equals(m.getId()))
-                .isPresent();
+    Optional<UUID> findOwnerId(UUID resourceId) {
+        return resourceOwnerCache.getOwnerId(resourceId, rateRepository::findMemberIdById);
     }
 }
@@ -0,0 +1,78 @@
+package com.kimtaeyang.mobidic.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 여러 노드가 제한을 공유하는 Redis 기반 GCRA. IP 와 이메일 버킷을 한 번의 스크립트 호출로 확인한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.throttle.mode", havingValue = "redis")
+public class RedisLoginThrottle implements LoginThrottle {
+    private static final String THROTTLE_PREFIX = "throttle:";
+
+    /*
+        KEYS : 확인할 버킷들, ARGV[1] : 현재 시각(ms)
+        ARGV[2k], ARGV[2k+1] : KEYS[k] 의 emission interval(ms), burst tolerance(ms)
+        모든 버킷이 허용할 때만 갱신하고 1, 아니면 0
+    */
+    private static final RedisScript<Long> GCRA_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local tats = {} " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local tat = tonumber(redis.call('GET', key) or now) " +
+            "  if tat < now then tat = now end " +
+            "  if tat - now > tonumber(ARGV[2 * i + 1]) then return 0 end " +
+            "  tats[i] = tat + tonumber(ARGV[2 * i]) " +
+            "end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  redis.call('SET', key, tats[i], 'PX', math.ceil(tats[i] - now)) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long emailInterval;
+    private final long emailBurst;
+    private final long ipInterval;
+    private final long ipBurst;
+
+    public RedisLoginThrottle(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${auth.throttle.email.capacity:5}") int emailCapacity,
+            @Value("${auth.throttle.ip.capacity:30}") int ipCapacity,
+            @Value("${auth.throttle.period:60000}") long period
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.emailInterval = period / emailCapacity;
+        this.emailBurst = emailInterval * (emailCapacity - 1);
+        this.ipInterval = period / ipCapacity;
+        this.ipBurst = ipInterval * (ipCapacity - 1);
+    }
+
+    @Override
+    public boolean tryAcquire(String email, String ip) {
+        String now = String.valueOf(System.currentTimeMillis());
+        Long allowed;
+
+        if (email == null) {
+            allowed = redisTemplate.execute(GCRA_SCRIPT,
+                    List.of(THROTTLE_PREFIX + "ip:" + ip),
+                    now, String.valueOf(ipInterval), String.valueOf(ipBurst));
+        } else {
+            allowed = redisTemplate.execute(GCRA_SCRIPT,
+                    List.of(THROTTLE_PREFIX + "ip:" + ip, THROTTLE_PREFIX + "email:" + JwtUtil.digest(email)),
+                    now, String.valueOf(ipInterval), String.valueOf(ipBurst),
+                    String.valueOf(emailInterval), String.valueOf(emailBurst));
+        }
+
+        return allowed != null && allowed == 1L;
+    }
+}
@@ -0,0 +1,133 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.INVALID_TOKEN;
+
+/**
+ * Refresh token 발급/회전 및 재사용 탐지.
+ * 토큰 형식은 "familyId.secret" 이며 Redis 의 refresh:&lt;familyId&gt; 해시에 현재 secret 의 digest 만 보관한다.
+ * 이미 회전된 secret 이 다시 제시되면 탈취로 보고 family 전체를 폐기한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    static final String REFRESH_PREFIX = "refresh:";
+    private static final String REUSED = "REUSED";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /*
+        KEYS[1] : refresh:<familyId>
+        ARGV[1] : 제시된 secret digest, ARGV[2] : 새 secret digest, ARGV[3] : TTL(ms)
+        반환 : 일치하면 "memberId:iat", 재사용이면 REUSED, family 가 없으면 nil
+    */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], 'current') " +
+            "if not current then return false end " +
+            "if current ~= ARGV[1] then redis.call('DEL', KEYS[1]) return 'REUSED' end " +
+            "redis.call('HSET', KEYS[1], 'current', ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return redis.call('HGET', KEYS[1], 'member') .. ':' .. redis.call('HGET', KEYS[1], 'iat')",
+            String.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtBlacklistService jwtBlacklistService;
+    private final JwtProperties jwtProperties;
+
+    public RefreshToken issue(UUID memberId) {
+        String familyId = randomId();
+        String secret = randomId();
+
+        String key = REFRESH_PREFIX + familyId;
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "member", memberId.toString(),
+                "iat", String.valueOf(System.currentTimeMillis() / 1000),
+                "current", JwtUtil.digest(secret)
+        ));
+        redisTemplate.expire(key, Duration.ofMillis(jwtProperties.getRefreshExp()));
+
+        return new RefreshToken(familyId, familyId + "." + secret);
+    }
+
+    /**
+     * 제시된 refresh token 을 새 secret 으로 회전한다.
+     * 재사용이 탐지되거나 회원 epoch 이후에 만료된 family 이면 INVALID_TOKEN 을 던진다.
+     */
+    public Rotation rotate(String refreshToken) {
+        int dot = refreshToken.indexOf('.');
+        if (dot <= 0) {
+            throw new ApiException(INVALID_TOKEN);
+        }
+        String familyId = refreshToken.substring(0, dot);
+        String secret = refreshToken.substring(dot + 1);
+        String nextSecret = randomId();
+
+        String result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(REFRESH_PREFIX + familyId),
+                JwtUtil.digest(secret), JwtUtil.digest(nextSecret), String.valueOf(jwtProperties.getRefreshExp())
+        );
+
+        if (result == null) {
+            throw new ApiException(INVALID_TOKEN);
+        }
+        if (REUSED.equals(result)) {
+            log.warn("Refresh token reuse detected, family revoked : {}", familyId);
+            throw new ApiException(INVALID_TOKEN);
+        }
+
+        String[] values = result.split(":");
+        UUID memberId = UUID.fromString(values[0]);
+        long issuedAt = Long.parseLong(values[1]);
+
+        //비밀번호 변경/탈퇴 이전(같은 초 포함)에 시작된 family 는 더 이상 갱신할 수 없음
+        if (issuedAt <= jwtBlacklistService.getMemberEpoch(memberId)) {
+            revoke(familyId);
+            throw new ApiException(INVALID_TOKEN);
+        }
+
+        return new Rotation(memberId, new RefreshToken(familyId, familyId + "." + nextSecret));
+    }
+
+    public void revoke(String familyId) {
+        redisTemplate.delete(REFRESH_PREFIX + familyId);
+    }
+
+    private static String randomId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RefreshToken {
+        private final String familyId;
+        private final String token;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final UUID memberId;
+        private final RefreshToken refreshToken;
+    }
+}
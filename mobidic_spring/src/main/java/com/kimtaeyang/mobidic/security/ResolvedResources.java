@@ -0,0 +1,73 @@
+package com.kimtaeyang.mobidic.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 한 HTTP 요청 안에서 이미 확인한 리소스 소유자를 보관한다.
+ * 서비스 간 호출이나 일괄 처리로 같은 리소스의 소유권 확인이 반복되어도 한 번만 조회한다.
+ * 엔티티 자체는 요청 범위의 영속성 컨텍스트가 보관하므로 여기서는 소유자 id 만 다룬다.
+ * 요청 밖(스케줄러 등)에서는 보관하지 않고 매번 조회한다.
+ */
+@Component
+public class ResolvedResources {
+    private static final String ATTRIBUTE = ResolvedResources.class.getName() + ".owners";
+
+    private final Counter loaded;
+    private final Counter avoided;
+
+    public ResolvedResources(MeterRegistry meterRegistry) {
+        this.loaded = Counter.builder("auth.resource.resolve")
+                .tag("result", "loaded")
+                .register(meterRegistry);
+        this.avoided = Counter.builder("auth.resource.resolve")
+                .tag("result", "avoided")
+                .register(meterRegistry);
+    }
+
+    public Optional<UUID> getOwnerId(UUID resourceId, Function<UUID, Optional<UUID>> loader) {
+        Map<UUID, UUID> owners = currentOwners();
+        if (owners == null) {
+            return loader.apply(resourceId);
+        }
+
+        UUID ownerId = owners.get(resourceId);
+        if (ownerId != null) {
+            avoided.increment();
+            return Optional.of(ownerId);
+        }
+
+        //같은 요청에서 생성될 수 있으므로 없는 리소스는 보관하지 않음
+        Optional<UUID> loadedOwnerId = loader.apply(resourceId);
+        loaded.increment();
+        loadedOwnerId.ifPresent((id) -> owners.put(resourceId, id));
+
+        return loadedOwnerId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, UUID> currentOwners() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Map<UUID, UUID> owners = (Map<UUID, UUID>) attributes
+                .getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (owners == null) {
+            owners = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, owners, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return owners;
+    }
+}
@@ -0,0 +1,115 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 리소스(단어장, 단어, 뜻, 학습률) id → 소유 회원 id 로컬 캐시.
+ * 리소스의 소유자는 바뀌지 않으므로 삭제 시에만 무효화한다.
+ * 모든 리소스 id 는 UUID 이므로 AccessHandler 들이 하나의 캐시를 공유한다.
+ */
+@Component
+@Slf4j
+public class ResourceOwnerCache implements MessageListener {
+    static final String CHANNEL = "auth:owner";
+    private static final String MEMBER_PREFIX = "member:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean pubsub;
+    private final Cache<UUID, UUID> owners;
+
+    public ResourceOwnerCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.owner-cache.size:100000}") long size,
+            @Value("${auth.owner-cache.ttl:3600000}") long ttl,
+            @Value("${auth.owner-cache.pubsub:true}") boolean pubsub
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.pubsub = pubsub;
+        //다른 노드의 삭제 메시지를 놓쳐도 ttl 이후에는 DB 에서 다시 읽는다
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, owners, "resourceOwner");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (pubsub) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 캐시된 소유자를 반환하고, 없으면 loader 로 조회해 캐싱한다.
+     * 존재하지 않는 리소스는 캐싱하지 않는다.
+     */
+    public Optional<UUID> getOwnerId(UUID resourceId, Function<UUID, Optional<UUID>> loader) {
+        UUID cached = owners.getIfPresent(resourceId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UUID> ownerId = loader.apply(resourceId);
+        ownerId.ifPresent((id) -> owners.put(resourceId, id));
+
+        return ownerId;
+    }
+
+    public void evict(UUID resourceId) {
+        owners.invalidate(resourceId);
+        if (pubsub) {
+            redisTemplate.convertAndSend(CHANNEL, resourceId.toString());
+        }
+    }
+
+    //회원 삭제 시 하위 리소스 id 를 알 수 없으므로 값(소유자)으로 제거
+    public void evictMember(UUID memberId) {
+        removeMember(memberId);
+        if (pubsub) {
+            redisTemplate.convertAndSend(CHANNEL, MEMBER_PREFIX + memberId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(MEMBER_PREFIX)) {
+                removeMember(UUID.fromString(body.substring(MEMBER_PREFIX.length())));
+            } else {
+                owners.invalidate(UUID.fromString(body));
+            }
+        } catch (RuntimeException e) {
+            log.error("Invalid resource owner message : {}", e.getMessage());
+        }
+    }
+
+    private void removeMember(UUID memberId) {
+        owners.asMap().values().removeIf(memberId::equals);
+    }
+}
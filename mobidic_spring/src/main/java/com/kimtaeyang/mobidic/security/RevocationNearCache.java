@@ -0,0 +1,118 @@
+package com.kimtaeyang.mobidic.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 로그아웃 블랙리스트 앞단의 로컬 negative cache.
+ * 대부분의 요청은 "폐기되지 않음"이므로 Bloom filter 에서 걸러져 Redis 를 호출하지 않는다.
+ * 노드 간 동기화는 pub/sub 채널로, 만료된 키 정리는 주기적인 keyspace 재구성으로 처리한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RevocationNearCache implements MessageListener {
+    static final String CHANNEL = "jwt:revocation";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${jwt.blacklist.near-cache.enabled:true}")
+    private boolean enabled;
+    @Value("${jwt.blacklist.near-cache.expected-insertions:1000000}")
+    private long expectedInsertions;
+    @Value("${jwt.blacklist.near-cache.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile RevocationBloomFilter filter;
+    private volatile RevocationBloomFilter rebuilding;
+
+    @PostConstruct
+    void subscribe() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * false 이면 해당 키는 확실히 Redis 에 없다.
+     * 첫 재구성이 끝나기 전이거나 비활성화된 경우 항상 true 를 반환해 Redis 조회로 넘긴다.
+     */
+    public boolean mightBeRevoked(String key) {
+        RevocationBloomFilter current = filter;
+        return current == null || current.mightContain(key);
+    }
+
+    public void publish(String key) {
+        add(key);
+        redisTemplate.convertAndSend(CHANNEL, key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.near-cache.rebuild-interval:600000}",
+            fixedDelayString = "${jwt.blacklist.near-cache.rebuild-interval:600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        RevocationBloomFilter next = new RevocationBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+
+        long count = 0;
+        try {
+            try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                    .match(JwtBlacklistService.LOGOUT_PREFIX + "*")
+                    .count(1000)
+                    .build())) {
+                while (cursor.hasNext()) {
+                    next.put(cursor.next());
+                    count++;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Revocation near-cache rebuild failed : {}", e.getMessage());
+            rebuilding = null;
+            return;
+        }
+
+        filter = next;
+        rebuilding = null;
+        log.info("Revocation near-cache rebuilt with {} keys", count);
+    }
+
+    private void add(String key) {
+        //재구성 중 도착한 폐기 정보도 새 filter 에 반영 (rebuilding 을 먼저 읽어야 교체 시점의 유실이 없다)
+        RevocationBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(key);
+        }
+
+        RevocationBloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+}
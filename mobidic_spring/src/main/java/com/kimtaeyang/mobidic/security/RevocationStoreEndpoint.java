@@ -0,0 +1,81 @@
+package com.kimtaeyang.mobidic.security;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis 폐기 키 메모리 사용량 리포트 (actuator: /actuator/revocations).
+ * 키 개수는 SCAN 으로 세고, 일부 키의 MEMORY USAGE 평균으로 전체 크기를 추정한다.
+ */
+@Component
+@Endpoint(id = "revocations")
+@RequiredArgsConstructor
+public class RevocationStoreEndpoint {
+    private static final int SAMPLE_SIZE = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @ReadOperation
+    public Map<String, Report> report() {
+        Map<String, Report> reports = new LinkedHashMap<>();
+        reports.put("logout", measure(JwtBlacklistService.LOGOUT_PREFIX));
+        reports.put("epoch", measure(JwtBlacklistService.EPOCH_PREFIX));
+        return reports;
+    }
+
+    private Report measure(String prefix) {
+        long count = 0;
+        long sampled = 0;
+        long sampledBytes = 0;
+
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(prefix + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                count++;
+
+                if (sampled < SAMPLE_SIZE) {
+                    Long usage = memoryUsage(key);
+                    if (usage != null) {
+                        sampled++;
+                        sampledBytes += usage;
+                    }
+                }
+            }
+        }
+
+        long averageBytes = sampled == 0 ? 0 : sampledBytes / sampled;
+        return Report.builder()
+                .keyCount(count)
+                .averageKeyBytes(averageBytes)
+                .estimatedTotalBytes(averageBytes * count)
+                .build();
+    }
+
+    private Long memoryUsage(String key) {
+        return redisTemplate.execute((RedisCallback<Long>) connection ->
+                (Long) connection.execute("MEMORY",
+                        "USAGE".getBytes(StandardCharsets.UTF_8),
+                        key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Data
+    @Builder
+    public static class Report {
+        private long keyCount;
+        private long averageKeyBytes;
+        private long estimatedTotalBytes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.kimtaeyang.mobidic.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 키를 고정 개수의 stripe 로 해싱하는 lock-free token bucket (GCRA).
+ * stripe 하나는 "이론적 도착 시각"(TAT) 하나만 저장하므로 CAS 한 번으로 갱신된다.
+ * 서로 다른 키가 같은 stripe 를 공유하면 더 보수적으로 제한될 뿐 제한이 느슨해지지는 않는다.
+ * stripe 는 인스턴스마다 무작위로 만든 키의 HMAC 으로 고르므로 같은 stripe 에 모이는 키를 미리 만들어
+ * 다른 사용자를 막을 수 없다.
+ */
+class StripedRateLimiter {
+    private static final String HASH_ALGORITHM = "HmacSHA256";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final AtomicLongArray tats;
+    private final int mask;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier clock;
+    private final ThreadLocal<Mac> macs;
+
+    StripedRateLimiter(int stripes, int capacity, long periodNanos, LongSupplier clock) {
+        int size = Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1;
+        this.tats = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.intervalNanos = periodNanos / capacity;
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.clock = clock;
+
+        byte[] seed = new byte[32];
+        RANDOM.nextBytes(seed);
+        SecretKeySpec secret = new SecretKeySpec(seed, HASH_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(secret));
+    }
+
+    StripedRateLimiter(int stripes, int capacity, long periodNanos) {
+        this(stripes, capacity, periodNanos, System::nanoTime);
+    }
+
+    boolean tryAcquire(String key) {
+        int stripe = stripe(key);
+        long now = clock.getAsLong();
+
+        while (true) {
+            long stored = tats.get(stripe);
+            long tat = stored == 0 || stored - now < 0 ? now : stored;
+            if (tat - now > burstNanos) {
+                return false;
+            }
+            if (tats.compareAndSet(stripe, stored, tat + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 가져간 토큰 하나를 되돌린다.
+     * 여러 bucket 을 함께 확인할 때 뒤의 bucket 이 거절하면 앞에서 가져간 토큰을 돌려주는 데 쓴다.
+     */
+    void release(String key) {
+        int stripe = stripe(key);
+
+        while (true) {
+            long stored = tats.get(stripe);
+            if (stored == 0) {
+                return;
+            }
+            //TAT 가 현재보다 과거가 되면 빈 bucket 과 같게 처리되므로 하한은 따로 두지 않는다
+            if (tats.compareAndSet(stripe, stored, stored - intervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    private int stripe(String key) {
+        byte[] hash = macs.get().doFinal(key.getBytes(StandardCharsets.UTF_8));
+        int h = (hash[0] & 0xff) << 24 | (hash[1] & 0xff) << 16 | (hash[2] & 0xff) << 8 | (hash[3] & 0xff);
+        return h & mask;
+    }
+
+    private static Mac newMac(SecretKeySpec secret) {
+        try {
+            Mac mac = Mac.getInstance(HASH_ALGORITHM);
+            mac.init(secret);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.kimtaeyang.mobidic.security;
 
-import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.repository.VocabRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -15,12 +15,10 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class VocabAccessHandler extends AccessHandler {
     private final VocabRepository vocabRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
 
     @Override
-    boolean isResourceOwner(UUID resourceId) {
-        return vocabRepository.findById(resourceId)
-                .map(Vocab::getMember)
-                .filter((m) -> getCurrentMemberId().equals(m.getId()))
-                .isPresent();
+    Optional<UUID> findOwnerId(UUID resourceId) {
+        return resourceOwnerCache.getOwnerId(resourceId, vocabRepository::findMemberIdById);
     }
 }
@@ -1,12 +1,11 @@
 package com.kimtaeyang.mobidic.security;
 
-import com.kimtaeyang.mobidic.entity.Vocab;
-import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.repository.WordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -14,13 +13,10 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class WordAccessHandler extends AccessHandler {
     private final WordRepository wordRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
 
     @Override
-    boolean isResourceOwner(UUID resourceId) {
-        return wordRepository.findById(resourceId)
-                .map(Word::getVocab)
-                .map(Vocab::getMember)
-                .filter((m) -> getCurrentMemberId().equals(m.getId()))
-                .isPresent();
+    Optional<UUID> findOwnerId(UUID resourceId) {
+        return resourceOwnerCache.getOwnerId(resourceId, wordRepository::findMemberIdById);
     }
 }
@@ -3,10 +3,13 @@ package com.kimtaeyang.mobidic.service;
 import com.kimtaeyang.mobidic.dto.JoinDto;
 import com.kimtaeyang.mobidic.dto.LoginDto;
 import com.kimtaeyang.mobidic.dto.LogoutDto;
+import com.kimtaeyang.mobidic.dto.RefreshDto;
 import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.security.JwtBlacklistService;
 import com.kimtaeyang.mobidic.security.JwtUtil;
+import com.kimtaeyang.mobidic.security.RefreshTokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,16 +33,31 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final JwtBlacklistService jwtBlacklistService;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional(readOnly = true)
-    public String login(LoginDto.Request request) {
+    public LoginDto.Response login(LoginDto.Request request) {
         Authentication auth = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
 
         Member claim = (Member) auth.getPrincipal();
+        RefreshTokenService.RefreshToken refreshToken = refreshTokenService.issue(claim.getId());
 
-        return jwtUtil.generateToken(claim.getId());
+        return LoginDto.Response.builder()
+                .token(jwtUtil.generateToken(claim.getId(), refreshToken.getFamilyId()))
+                .refreshToken(refreshToken.getToken())
+                .build();
+    }
+
+    public LoginDto.Response refresh(RefreshDto.Request request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        RefreshTokenService.RefreshToken refreshToken = rotation.getRefreshToken();
+
+        return LoginDto.Response.builder()
+                .token(jwtUtil.generateToken(rotation.getMemberId(), refreshToken.getFamilyId()))
+                .refreshToken(refreshToken.getToken())
+                .build();
     }
 
     @Transactional
@@ -64,6 +82,13 @@ public class AuthService {
 
         jwtBlacklistService.logoutToken(token); //Redis 블랙리스트에 토큰 추가
 
+        //같은 로그인에서 발급된 refresh token 도 폐기
+        Claims claims = jwtUtil.parseClaims(token);
+        String familyId = jwtUtil.getFamilyIdFromClaims(claims);
+        if (familyId != null) {
+            refreshTokenService.revoke(familyId);
+        }
+
         return response;
     }
 }
\ No newline at end of file
@@ -0,0 +1,433 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.AddWordDto;
+import com.kimtaeyang.mobidic.dto.BatchDto;
+import com.kimtaeyang.mobidic.entity.BatchResult;
+import com.kimtaeyang.mobidic.entity.Def;
+import com.kimtaeyang.mobidic.entity.Rate;
+import com.kimtaeyang.mobidic.entity.SyncChange;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.exception.RetryableApiException;
+import com.kimtaeyang.mobidic.repository.BatchResultRepository;
+import com.kimtaeyang.mobidic.repository.DefRepository;
+import com.kimtaeyang.mobidic.repository.RateRepository;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.SyncType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
+
+/**
+ * 오프라인 변경 묶음 적용.
+ * 권한은 리소스 종류별 한 번의 조회로 확인하고, 모든 변경을 한 트랜잭션에서 순서대로 적용한다.
+ * 개별 변경의 실패(중복, 없는 리소스 등)는 결과에만 기록하고 나머지 변경은 계속 적용한다.
+ * 처리 결과는 적용과 같은 트랜잭션에서 batchId 별로 DB 에 저장해 같은 묶음을 다시 보내도 한 번만 적용된다.
+ * Redis 키는 동시에 들어온 같은 묶음을 막는 잠금으로만 쓴다.
+ */
+@Service
+@Slf4j
+public class BatchService {
+    static final String KEY_PREFIX = "batch:";
+    static final String PENDING = "pending";
+
+    private final VocabRepository vocabRepository;
+    private final WordRepository wordRepository;
+    private final DefRepository defRepository;
+    private final RateRepository rateRepository;
+    private final BatchResultRepository batchResultRepository;
+    private final WordBatchWriter wordBatchWriter;
+    private final SyncService syncService;
+    private final WordSearchIndex wordSearchIndex;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter appliedBatches;
+    private final Counter replayedBatches;
+    private final Duration resultTtl;
+    private final Duration pendingTtl;
+
+    public BatchService(
+            VocabRepository vocabRepository,
+            WordRepository wordRepository,
+            DefRepository defRepository,
+            RateRepository rateRepository,
+            BatchResultRepository batchResultRepository,
+            WordBatchWriter wordBatchWriter,
+            SyncService syncService,
+            WordSearchIndex wordSearchIndex,
+            ResourceOwnerCache resourceOwnerCache,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${batch.idempotency.ttl:86400000}") long resultTtl,
+            @Value("${batch.idempotency.pending-ttl:300000}") long pendingTtl
+    ) {
+        this.vocabRepository = vocabRepository;
+        this.wordRepository = wordRepository;
+        this.defRepository = defRepository;
+        this.rateRepository = rateRepository;
+        this.batchResultRepository = batchResultRepository;
+        this.wordBatchWriter = wordBatchWriter;
+        this.syncService = syncService;
+        this.wordSearchIndex = wordSearchIndex;
+        this.resourceOwnerCache = resourceOwnerCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.appliedBatches = Counter.builder("batch.requests")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.replayedBatches = Counter.builder("batch.requests")
+                .tag("result", "replayed")
+                .register(meterRegistry);
+        this.resultTtl = Duration.ofMillis(resultTtl);
+        this.pendingTtl = Duration.ofMillis(pendingTtl);
+    }
+
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public BatchDto.Response applyBatch(UUID memberId, BatchDto.Request request) {
+        BatchResult.Key resultKey = new BatchResult.Key(memberId, request.getBatchId());
+        Optional<BatchDto.Response> stored = findResponse(resultKey);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        //같은 batch 가 동시에 들어오면 먼저 잡은 요청만 적용
+        String key = KEY_PREFIX + memberId + ":" + request.getBatchId();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, PENDING, pendingTtl))) {
+            //잠금을 가진 요청이 방금 끝났을 수 있으므로 결과를 한 번 더 확인
+            return findResponse(resultKey)
+                    .orElseThrow(() -> new RetryableApiException(BATCH_IN_PROGRESS, 1));
+        }
+
+        BatchDto.Response response;
+        try {
+            //결과 저장이 실패하면 적용도 함께 롤백되므로 결과 없이 적용된 묶음은 남지 않는다
+            response = transactionTemplate.execute((status) -> {
+                BatchDto.Response applied = new Batch(memberId, request).apply();
+                batchResultRepository.save(BatchResult.builder()
+                        .memberId(memberId)
+                        .batchId(request.getBatchId())
+                        .response(writeResponse(applied))
+                        .createdAt(new Timestamp(System.currentTimeMillis()))
+                        .build());
+                return applied;
+            });
+        } catch (DataIntegrityViolationException e) {
+            //잠금이 만료된 사이 다른 요청이 먼저 저장한 경우
+            return findResponse(resultKey).orElseThrow(() -> e);
+        } finally {
+            releaseLock(key);
+        }
+        appliedBatches.increment();
+
+        return response;
+    }
+
+    //보관 기간이 지난 결과 정리
+    @Scheduled(
+            initialDelayString = "${batch.idempotency.purge-interval:3600000}",
+            fixedDelayString = "${batch.idempotency.purge-interval:3600000}"
+    )
+    public void purgeResults() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - resultTtl.toMillis());
+        Integer purged = transactionTemplate.execute((status) -> batchResultRepository.deleteByCreatedAtBefore(before));
+        log.debug("Purged {} batch results", purged);
+    }
+
+    private Optional<BatchDto.Response> findResponse(BatchResult.Key resultKey) {
+        return batchResultRepository.findById(resultKey).map((result) -> {
+            replayedBatches.increment();
+            return readResponse(result.getResponse());
+        });
+    }
+
+    //적용 결과는 이미 DB 에 있으므로 잠금 해제 실패는 pendingTtl 뒤 만료에 맡긴다
+    private void releaseLock(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release batch lock : {}", e.getMessage());
+        }
+    }
+
+    private String writeResponse(BatchDto.Response response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new ApiException(INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private BatchDto.Response readResponse(String stored) {
+        try {
+            BatchDto.Response response = objectMapper.readValue(stored, BatchDto.Response.class);
+            response.setReplayed(true);
+            return response;
+        } catch (JsonProcessingException e) {
+            throw new ApiException(INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    //한 묶음을 적용하는 동안의 상태
+    private class Batch {
+        private final UUID memberId;
+        private final BatchDto.Request request;
+        private final Map<UUID, Vocab> vocabs;
+        private final Map<UUID, Word> words;
+        private final Map<UUID, Def> defs;
+        private final Map<UUID, Rate> rates;
+        private final Set<String> expressions;
+        private final Set<String> definitions;
+        private final Map<String, UUID> refs = new HashMap<>();
+        private final List<SyncChange> changes = new ArrayList<>();
+
+        Batch(UUID memberId, BatchDto.Request request) {
+            this.memberId = memberId;
+            this.request = request;
+
+            //회원 소유가 아닌 리소스는 조회되지 않으므로 없는 리소스와 같게 처리
+            List<BatchDto.Operation> operations = request.getOperations();
+            this.vocabs = toMap(collect(operations, BatchDto.Operation::getVocabId),
+                    (ids) -> vocabRepository.findAllByIdAndMemberId(ids, memberId), Vocab::getId);
+            this.words = toMap(collect(operations, BatchDto.Operation::getWordId),
+                    (ids) -> wordRepository.findAllByIdAndMemberId(ids, memberId), Word::getId);
+            this.defs = toMap(collect(operations, BatchDto.Operation::getDefId),
+                    (ids) -> defRepository.findAllByIdAndMemberId(ids, memberId), Def::getId);
+            this.rates = toMap(words.keySet(), rateRepository::findAllById, Rate::getWordId);
+
+            //표현, 뜻은 전체에서 유일해야 하므로 묶음 안의 값을 한 번에 확인 (대소문자 구분 없는 key 로 비교)
+            this.expressions = wordBatchWriter.findExistingExpressions(
+                    collect(operations, BatchDto.Operation::getExpression));
+            this.definitions = wordBatchWriter.findExistingDefinitions(
+                    collect(operations, BatchDto.Operation::getDefinition));
+        }
+
+        BatchDto.Response apply() {
+            List<BatchDto.Result> results = new ArrayList<>(request.getOperations().size());
+            for (int i = 0; i < request.getOperations().size(); i++) {
+                BatchDto.Operation operation = request.getOperations().get(i);
+                try {
+                    results.add(BatchDto.Result.success(i, operation.getRef(), apply(operation)));
+                } catch (ApiException e) {
+                    results.add(BatchDto.Result.failure(i, operation.getRef(), e.getResponseCode()));
+                }
+            }
+
+            syncService.recordAll(memberId, changes);
+
+            return BatchDto.Response.builder()
+                    .batchId(request.getBatchId())
+                    .results(results)
+                    .build();
+        }
+
+        private UUID apply(BatchDto.Operation operation) {
+            return switch (operation.getType()) {
+                case ADD_WORD -> addWord(operation);
+                case UPDATE_WORD -> updateWord(operation);
+                case DELETE_WORD -> deleteWord(operation);
+                case ADD_DEF -> addDef(operation);
+                case UPDATE_DEF -> updateDef(operation);
+                case DELETE_DEF -> deleteDef(operation);
+                case TOGGLE_RATE -> toggleRate(operation);
+            };
+        }
+
+        private UUID addWord(BatchDto.Operation operation) {
+            validate(new AddWordDto.Request(operation.getExpression()));
+            Vocab vocab = Optional.ofNullable(operation.getVocabId()).map(vocabs::get)
+                    .orElseThrow(() -> new ApiException(NO_VOCAB));
+            claimExpression(operation.getExpression());
+
+            Word word = Word.builder()
+                    .expression(operation.getExpression())
+                    .vocab(vocab)
+                    .build();
+            wordRepository.save(word);
+
+            Rate rate = Rate.builder()
+                    .word(word)
+                    .correctCount(0)
+                    .incorrectCount(0)
+                    .isLearned(0)
+                    .build();
+            rateRepository.save(rate);
+
+            words.put(word.getId(), word);
+            rates.put(word.getId(), rate);
+            putRef(operation, word.getId());
+            wordSearchIndex.put(memberId, word);
+            changes.add(SyncService.change(SyncType.WORD, word.getId(), vocab.getId(), false));
+
+            return word.getId();
+        }
+
+        private UUID updateWord(BatchDto.Operation operation) {
+            validate(new AddWordDto.Request(operation.getExpression()));
+            Word word = resolveWord(operation);
+            claimExpression(operation.getExpression());
+
+            word.setExpression(operation.getExpression());
+            wordRepository.save(word);
+            wordSearchIndex.put(memberId, word);
+            changes.add(SyncService.change(SyncType.WORD, word.getId(), word.getVocab().getId(), false));
+
+            return word.getId();
+        }
+
+        private UUID deleteWord(BatchDto.Operation operation) {
+            Word word = resolveWord(operation);
+
+            wordRepository.delete(word);
+            words.remove(word.getId());
+            rates.remove(word.getId());
+            //뜻은 DB cascade 로 함께 삭제되므로 이후 변경이 성공으로 기록되지 않도록 제거
+            defs.values().removeIf((def) -> def.getWord().getId().equals(word.getId()));
+            wordSearchIndex.remove(memberId, word.getId());
+            resourceOwnerCache.evict(word.getId());
+            changes.add(SyncService.change(SyncType.WORD, word.getId(), word.getVocab().getId(), true));
+
+            return word.getId();
+        }
+
+        private UUID addDef(BatchDto.Operation operation) {
+            validate(new AddDefDto.Request(operation.getDefinition(), operation.getPart()));
+            Word word = resolveWord(operation);
+            claimDefinition(operation.getDefinition());
+
+            Def def = Def.builder()
+                    .word(word)
+                    .part(operation.getPart())
+                    .definition(operation.getDefinition())
+                    .build();
+            defRepository.save(def);
+
+            defs.put(def.getId(), def);
+            putRef(operation, def.getId());
+            changes.add(SyncService.change(SyncType.DEF, def.getId(), word.getVocab().getId(), false));
+
+            return def.getId();
+        }
+
+        private UUID updateDef(BatchDto.Operation operation) {
+            validate(new AddDefDto.Request(operation.getDefinition(), operation.getPart()));
+            Def def = resolveDef(operation);
+
+            def.setDefinition(operation.getDefinition());
+            def.setPart(operation.getPart());
+            defRepository.save(def);
+            changes.add(SyncService.change(SyncType.DEF, def.getId(), def.getWord().getVocab().getId(), false));
+
+            return def.getId();
+        }
+
+        private UUID deleteDef(BatchDto.Operation operation) {
+            Def def = resolveDef(operation);
+
+            defRepository.delete(def);
+            defs.remove(def.getId());
+            resourceOwnerCache.evict(def.getId());
+            changes.add(SyncService.change(SyncType.DEF, def.getId(), def.getWord().getVocab().getId(), true));
+
+            return def.getId();
+        }
+
+        private UUID toggleRate(BatchDto.Operation operation) {
+            Word word = resolveWord(operation);
+            Rate rate = Optional.ofNullable(rates.get(word.getId()))
+                    .orElseThrow(() -> new ApiException(NO_RATE));
+
+            rate.setIsLearned(rate.getIsLearned() > 0 ? 0 : 1);
+            rateRepository.save(rate);
+            changes.add(SyncService.change(SyncType.WORD, word.getId(), word.getVocab().getId(), false));
+
+            return word.getId();
+        }
+
+        private Word resolveWord(BatchDto.Operation operation) {
+            return Optional.ofNullable(resolveId(operation.getWordId(), operation.getWordRef()))
+                    .map(words::get)
+                    .orElseThrow(() -> new ApiException(NO_WORD));
+        }
+
+        private Def resolveDef(BatchDto.Operation operation) {
+            return Optional.ofNullable(resolveId(operation.getDefId(), operation.getDefRef()))
+                    .map(defs::get)
+                    .orElseThrow(() -> new ApiException(NO_DEF));
+        }
+
+        //앞선 변경에서 만든 리소스는 클라이언트 id(ref)로 가리킨다
+        private UUID resolveId(UUID id, String ref) {
+            return id != null ? id : ref == null ? null : refs.get(ref);
+        }
+
+        private void putRef(BatchDto.Operation operation, UUID id) {
+            if (operation.getRef() != null) {
+                refs.put(operation.getRef(), id);
+            }
+        }
+
+        private void claimExpression(String expression) {
+            if (!expressions.add(WordBatchWriter.key(expression))) {
+                throw new ApiException(DUPLICATED_WORD);
+            }
+        }
+
+        private void claimDefinition(String definition) {
+            if (!definitions.add(WordBatchWriter.key(definition))) {
+                throw new ApiException(DUPLICATED_DEFINITION);
+            }
+        }
+
+        private void validate(Object request) {
+            if (!validator.validate(request).isEmpty()) {
+                throw new ApiException(INVALID_REQUEST_BODY);
+            }
+        }
+    }
+
+    private static <T> Set<T> collect(List<BatchDto.Operation> operations, Function<BatchDto.Operation, T> getter) {
+        return operations.stream().map(getter).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<UUID, T> toMap(
+            Collection<UUID> ids, Function<Collection<UUID>, List<T>> loader, Function<T, UUID> idGetter
+    ) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return loader.apply(ids).stream().collect(Collectors.toMap(idGetter, (item) -> item));
+    }
+}
@@ -7,6 +7,9 @@ import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.exception.ApiException;
 import com.kimtaeyang.mobidic.repository.DefRepository;
 import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.SyncType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
 
@@ -25,11 +27,14 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
 public class DefService {
     private final WordRepository wordRepository;
     private final DefRepository defRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final MemberScope memberScope;
+    private final SyncService syncService;
 
     @Transactional
-    @PreAuthorize("@wordAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
     public AddDefDto.Response addDef(UUID wordId, AddDefDto.Request request) {
-        Word word = wordRepository.findById(wordId)
+        Word word = wordRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
 
         defRepository.findByDefinition(request.getDefinition())
@@ -43,42 +48,57 @@ public class DefService {
                 .definition(request.getDefinition())
                 .build();
         defRepository.save(def);
+        recordChange(def, false);
 
         return AddDefDto.Response.fromEntity(def);
     }
 
-    @PreAuthorize("@wordAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
     @Transactional(readOnly = true)
     public List<DefDto> getDefsByWordId(UUID wordId) {
-        Word word = wordRepository.findById(wordId)
+        Word word = wordRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
 
-        return defRepository.findByWord(word)
-                .stream().map(DefDto::fromEntity)
-                .collect(Collectors.toList());
+        return defRepository.findDtosByWordId(word.getId());
     }
 
     @Transactional
-    @PreAuthorize("@defAccessHandler.ownershipCheck(#defId)")
+    @PreAuthorize("@memberScope.scoped or @defAccessHandler.ownershipCheck(#defId)")
     public AddDefDto.Response updateDef(UUID defId, AddDefDto.Request request) {
-        Def def = defRepository.findById(defId)
+        Def def = defRepository.findById(defId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_DEF));
 
         def.setDefinition(request.getDefinition());
         def.setPart(request.getPart());
         defRepository.save(def);
+        recordChange(def, false);
 
         return AddDefDto.Response.fromEntity(def);
     }
 
     @Transactional
-    @PreAuthorize("@defAccessHandler.ownershipCheck(#defId)")
+    @PreAuthorize("@memberScope.scoped or @defAccessHandler.ownershipCheck(#defId)")
     public DefDto deleteDef(UUID defId) {
-        Def def = defRepository.findById(defId)
+        Def def = defRepository.findById(defId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_DEF));
 
         defRepository.delete(def);
+        recordChange(def, true);
+        resourceOwnerCache.evict(defId);
 
         return DefDto.fromEntity(def);
     }
+
+    //권한 확인에서 캐시된 소유자를 사용하므로 보통 추가 쿼리 없음
+    private void recordChange(Def def, boolean deleted) {
+        Word word = def.getWord();
+        resourceOwnerCache.getOwnerId(word.getId(), wordRepository::findMemberIdById)
+                .ifPresent((memberId) -> {
+                    if (deleted) {
+                        syncService.recordDelete(memberId, SyncType.DEF, def.getId(), word.getVocab().getId());
+                    } else {
+                        syncService.recordUpsert(memberId, SyncType.DEF, def.getId(), word.getVocab().getId());
+                    }
+                });
+    }
 }
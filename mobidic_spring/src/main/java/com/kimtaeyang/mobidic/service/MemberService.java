@@ -8,6 +8,7 @@ import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.exception.ApiException;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.security.JwtBlacklistService;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,6 +32,9 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtBlacklistService jwtBlacklistService;
     private final AuthService authService;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final WordSearchIndex wordSearchIndex;
+    private final SyncService syncService;
 
     @Transactional(readOnly = true)
     @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
@@ -72,6 +76,8 @@ public class MemberService {
         member.setPassword(passwordEncoder.encode(request.getPassword()));
         memberRepository.save(member);
 
+        //다른 기기에서 발급된 토큰까지 모두 폐기
+        jwtBlacklistService.revokeMemberTokens(memberId);
         authService.logout(memberId, token);
 
         return UpdatePasswordDto.Response.builder()
@@ -106,6 +112,9 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException(NO_MEMBER));
         memberRepository.deleteById(memberId);
+        resourceOwnerCache.evictMember(memberId);
+        wordSearchIndex.evictMember(memberId);
+        syncService.deleteMember(memberId);
 
         jwtBlacklistService.withdrawToken(token);
         SecurityContextHolder.clearContext();
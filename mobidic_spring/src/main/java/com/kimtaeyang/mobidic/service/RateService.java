@@ -2,10 +2,11 @@ package com.kimtaeyang.mobidic.service;
 
 import com.kimtaeyang.mobidic.dto.RateDto;
 import com.kimtaeyang.mobidic.entity.Rate;
-import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.exception.ApiException;
 import com.kimtaeyang.mobidic.repository.RateRepository;
-import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.SyncType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,16 +21,17 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
 @RequiredArgsConstructor
 @Slf4j
 public class RateService {
-    private final WordRepository wordRepository;
     private final RateRepository rateRepository;
+    private final MemberScope memberScope;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final SyncService syncService;
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@rateAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @rateAccessHandler.ownershipCheck(#wordId)")
     public RateDto getRateByWordId(UUID wordId) {
-        Word word = wordRepository.findById(wordId)
+        //학습률은 단어와 같은 id 를 쓰므로 단어와 함께 한 번에 조회
+        Rate rate = rateRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
-        Rate rate = rateRepository.findRateByWord(word)
-                .orElseThrow(() -> new ApiException(NO_RATE));
 
         return RateDto.fromEntity(rate);
     }
@@ -42,12 +44,10 @@ public class RateService {
     }
 
     @Transactional
-    @PreAuthorize("@wordAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
     public void toggleRateByWordId(UUID wordId) {
-        Word word = wordRepository.findById(wordId)
+        Rate rate = rateRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
-        Rate rate = rateRepository.findRateByWord(word)
-                .orElseThrow(() -> new ApiException(NO_RATE));
 
         if(rate.getIsLearned() > 0){
             rate.setIsLearned(0);
@@ -56,5 +56,7 @@ public class RateService {
         }
 
         rateRepository.save(rate);
+        resourceOwnerCache.getOwnerId(wordId, rateRepository::findMemberIdById)
+                .ifPresent((memberId) -> syncService.recordUpsert(memberId, SyncType.WORD, wordId, rate.getVocabId()));
     }
 }
@@ -0,0 +1,58 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.repository.MemberRepository;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 조회 응답의 ETag.
+ * 회원/단어장 revision 은 모든 변경 시 SyncService 에서 올라가므로,
+ * 리소스 조회 전에 revision 하나만 읽어 If-None-Match 를 판단할 수 있다.
+ * revision 을 데이터보다 먼저 읽으므로 그 사이 변경이 있어도 오래된 응답에 새 ETag 가 붙지 않는다.
+ * 없는 리소스는 ETag 없이 원래 조회로 넘겨 NO_XXX 응답을 그대로 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RevisionService {
+    private final MemberRepository memberRepository;
+    private final VocabRepository vocabRepository;
+    private final WordRepository wordRepository;
+    private final MemberScope memberScope;
+
+    //회원의 단어장 목록
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public Optional<String> getMemberETag(UUID memberId) {
+        return memberRepository.findRevisionById(memberId).map(RevisionService::toETag);
+    }
+
+    //단어장 상세, 단어 목록, 학습률
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
+    public Optional<String> getVocabETag(UUID vocabId) {
+        return memberScope.findById(vocabId,
+                        vocabRepository::findRevisionById, vocabRepository::findRevisionByIdAndMemberId)
+                .map(RevisionService::toETag);
+    }
+
+    //단어 상세, 뜻 목록, 단어 학습률은 단어가 속한 단어장 revision 사용
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
+    public Optional<String> getWordETag(UUID wordId) {
+        return memberScope.findById(wordId,
+                        wordRepository::findVocabRevisionById, wordRepository::findVocabRevisionByIdAndMemberId)
+                .map(RevisionService::toETag);
+    }
+
+    static String toETag(long revision) {
+        return "\"" + revision + "\"";
+    }
+}
@@ -0,0 +1,192 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.SyncDto;
+import com.kimtaeyang.mobidic.dto.VocabDto;
+import com.kimtaeyang.mobidic.entity.SyncChange;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.repository.DefRepository;
+import com.kimtaeyang.mobidic.repository.MemberRepository;
+import com.kimtaeyang.mobidic.repository.RateRepository;
+import com.kimtaeyang.mobidic.repository.SyncChangeRepository;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.type.SyncType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.NO_MEMBER;
+
+/**
+ * 모바일 앱 증분 동기화.
+ * 단어장/단어/뜻/학습률 변경 시 회원별 변경 번호(revision)를 올리고 리소스별 마지막 변경을 기록한다.
+ * 클라이언트는 마지막으로 받은 revision 을 since 로 보내 그 이후 변경분만 받는다.
+ * 변경된 리소스가 속한 단어장의 revision 도 같은 번호로 올려 ETag 에 사용한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SyncService {
+    public static final int DEFAULT_SIZE = 500;
+    public static final int MAX_SIZE = 1000;
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final MemberRepository memberRepository;
+    private final VocabRepository vocabRepository;
+    private final RateRepository rateRepository;
+    private final DefRepository defRepository;
+    private final WordBatchWriter wordBatchWriter;
+
+    @Transactional
+    public void recordUpsert(UUID memberId, SyncType type, UUID resourceId, UUID vocabId) {
+        recordAll(memberId, List.of(change(type, resourceId, vocabId, false)));
+    }
+
+    @Transactional
+    public void recordDelete(UUID memberId, SyncType type, UUID resourceId, UUID vocabId) {
+        recordAll(memberId, List.of(change(type, resourceId, vocabId, true)));
+    }
+
+    /**
+     * 여러 변경을 한 번에 기록한다. 변경 번호는 한 번만 올리고 기존 기록도 한 번에 조회한다.
+     * 같은 리소스가 여러 번 바뀌었으면 마지막 변경만 남긴다.
+     */
+    @Transactional
+    public void recordAll(UUID memberId, List<SyncChange> changes) {
+        Map<UUID, SyncChange> latest = new LinkedHashMap<>();
+        for (SyncChange change : changes) {
+            latest.remove(change.getResourceId());
+            latest.put(change.getResourceId(), change);
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        //하위 리소스는 단어장 tombstone 으로 대신하므로 기록을 남기지 않는다
+        latest.values().stream()
+                .filter((change) -> change.getType() == SyncType.VOCAB && change.isDeleted())
+                .forEach((change) -> syncChangeRepository.deleteChildrenByVocabId(change.getResourceId()));
+
+        long last = increaseRevision(memberId, latest.size());
+        long revision = last - latest.size() + 1;
+        Map<UUID, SyncChange> existing = syncChangeRepository.findAllById(latest.keySet())
+                .stream().collect(Collectors.toMap(SyncChange::getResourceId, (change) -> change));
+        for (SyncChange change : latest.values()) {
+            SyncChange saved = existing.getOrDefault(change.getResourceId(), change);
+            saved.setMemberId(memberId);
+            saved.setRevision(revision++);
+            saved.setDeleted(change.isDeleted());
+            syncChangeRepository.save(saved);
+        }
+
+        Set<UUID> vocabIds = latest.values().stream()
+                .map(SyncChange::getVocabId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (!vocabIds.isEmpty()) {
+            vocabRepository.updateRevision(vocabIds, last);
+        }
+    }
+
+    //대량 등록은 새 리소스만 만들므로 JDBC batch 로 한 번에 기록
+    @Transactional
+    public void recordInserts(UUID memberId, UUID vocabId, Map<SyncType, List<UUID>> resourceIds) {
+        int count = resourceIds.values().stream().mapToInt(List::size).sum();
+        if (count == 0) {
+            return;
+        }
+
+        long last = increaseRevision(memberId, count);
+        vocabRepository.updateRevision(List.of(vocabId), last);
+        long revision = last - count + 1;
+        for (SyncType type : SyncType.values()) {
+            List<UUID> ids = resourceIds.getOrDefault(type, new ArrayList<>());
+            if (!ids.isEmpty()) {
+                wordBatchWriter.insertChanges(memberId, vocabId, type, ids, revision);
+                revision += ids.size();
+            }
+        }
+    }
+
+    @Transactional
+    public void deleteMember(UUID memberId) {
+        syncChangeRepository.deleteByMemberId(memberId);
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public SyncDto.Response getChanges(UUID memberId, long since, int size) {
+        //다음 변경분 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = Math.max(1, Math.min(size, MAX_SIZE));
+        List<SyncChange> changes = syncChangeRepository.findByMemberIdAfter(
+                memberId, since, Limit.of(pageSize + 1));
+        boolean hasNext = changes.size() > pageSize;
+        if (hasNext) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        Map<SyncType, List<UUID>> upserts = groupIds(changes, false);
+        Map<SyncType, List<UUID>> deletes = groupIds(changes, true);
+
+        //리소스 종류별로 한 번씩만 조회, 이미 삭제된 하위 리소스는 조회되지 않으므로 제외됨
+        List<VocabDto> vocabs = upserts.containsKey(SyncType.VOCAB)
+                ? vocabRepository.findAllById(upserts.get(SyncType.VOCAB))
+                        .stream().map(VocabDto::fromEntity).collect(Collectors.toList())
+                : new ArrayList<>();
+        List<SyncDto.Word> words = upserts.containsKey(SyncType.WORD)
+                ? rateRepository.findWithWordByWordIdIn(upserts.get(SyncType.WORD))
+                        .stream().map(SyncDto.Word::fromEntity).collect(Collectors.toList())
+                : new ArrayList<>();
+        List<DefDto> defs = upserts.containsKey(SyncType.DEF)
+                ? defRepository.findDtosByIdIn(upserts.get(SyncType.DEF))
+                : new ArrayList<>();
+
+        return SyncDto.Response.builder()
+                .revision(changes.isEmpty() ? since : changes.getLast().getRevision())
+                .hasNext(hasNext)
+                .vocabs(vocabs)
+                .words(words)
+                .defs(defs)
+                .deletedVocabIds(deletes.getOrDefault(SyncType.VOCAB, new ArrayList<>()))
+                .deletedWordIds(deletes.getOrDefault(SyncType.WORD, new ArrayList<>()))
+                .deletedDefIds(deletes.getOrDefault(SyncType.DEF, new ArrayList<>()))
+                .build();
+    }
+
+    public static SyncChange change(SyncType type, UUID resourceId, UUID vocabId, boolean deleted) {
+        return SyncChange.builder()
+                .resourceId(resourceId)
+                .vocabId(vocabId)
+                .type(type)
+                .deleted(deleted)
+                .build();
+    }
+
+    //증가시킨 뒤의 마지막 번호를 반환
+    private long increaseRevision(UUID memberId, long count) {
+        memberRepository.increaseRevision(memberId, count);
+
+        return memberRepository.findRevisionById(memberId)
+                .orElseThrow(() -> new ApiException(NO_MEMBER));
+    }
+
+    private Map<SyncType, List<UUID>> groupIds(List<SyncChange> changes, boolean deleted) {
+        return changes.stream()
+                .filter((change) -> change.isDeleted() == deleted)
+                .collect(Collectors.groupingBy(SyncChange::getType,
+                        Collectors.mapping(SyncChange::getResourceId, Collectors.toList())));
+    }
+}
@@ -1,6 +1,8 @@
 package com.kimtaeyang.mobidic.service;
 
 import com.kimtaeyang.mobidic.dto.AddVocabDto;
+import com.kimtaeyang.mobidic.dto.CursorPageDto;
+import com.kimtaeyang.mobidic.dto.PageCursor;
 import com.kimtaeyang.mobidic.dto.UpdateVocabDto;
 import com.kimtaeyang.mobidic.dto.VocabDto;
 import com.kimtaeyang.mobidic.entity.Member;
@@ -8,14 +10,20 @@ import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.exception.ApiException;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.SyncType;
+import com.kimtaeyang.mobidic.type.VocabField;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,6 +37,10 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.NO_VOCAB;
 public class VocabService {
     private final VocabRepository vocabRepository;
     private final MemberRepository memberRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final MemberScope memberScope;
+    private final WordSearchIndex wordSearchIndex;
+    private final SyncService syncService;
 
     @Transactional
     @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
@@ -47,50 +59,86 @@ public class VocabService {
                 .member(member)
                 .build();
         vocab = vocabRepository.save(vocab);
+        syncService.recordUpsert(memberId, SyncType.VOCAB, vocab.getId(), vocab.getId());
 
         return AddVocabDto.Response.fromEntity(vocab);
     }
 
     @Transactional(readOnly = true)
     @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
-    public List<VocabDto> getVocabsByMemberId(UUID memberId) {
+    public List<VocabDto> getVocabsByMemberId(UUID memberId, Set<VocabField> fields) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ApiException(NO_MEMBER));
 
         return vocabRepository.findByMember(member)
-                .stream().map(VocabDto::fromEntity).collect(Collectors.toList());
+                .stream().map((vocab) -> VocabDto.fromEntity(vocab, fields)).collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#vId)")
-    public VocabDto getVocabById(UUID vId) {
-        Vocab vocab = vocabRepository.findById(vId)
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public CursorPageDto<VocabDto> getVocabPageByMemberId(
+            UUID memberId, String cursor, int size, Set<VocabField> fields
+    ) {
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = CursorPageDto.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<Vocab> vocabs;
+        if (cursor == null) {
+            vocabs = vocabRepository.findPageByMemberId(memberId, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            vocabs = vocabRepository.findPageByMemberId(
+                    memberId, pageCursor.getTimestampKey(), pageCursor.getId(), limit);
+        }
+
+        boolean hasNext = vocabs.size() > pageSize;
+        if (hasNext) {
+            vocabs = vocabs.subList(0, pageSize);
+        }
+
+        Vocab last = hasNext ? vocabs.getLast() : null;
+
+        return CursorPageDto.<VocabDto>builder()
+                .items(vocabs.stream().map((vocab) -> VocabDto.fromEntity(vocab, fields)).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(last == null ? null : PageCursor.of(last.getCreatedAt(), last.getId()).encode())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vId)")
+    public VocabDto getVocabById(UUID vId, Set<VocabField> fields) {
+        Vocab vocab = vocabRepository.findById(vId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_VOCAB));
 
-        return VocabDto.fromEntity(vocab);
+        return VocabDto.fromEntity(vocab, fields);
     }
 
     @Transactional
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#vocabId)")
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
     public UpdateVocabDto.Response updateVocab(
             UUID vocabId, UpdateVocabDto.Request request) {
-        Vocab vocab = vocabRepository.findById(vocabId)
+        Vocab vocab = vocabRepository.findById(vocabId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_VOCAB));
 
         vocab.setTitle(request.getTitle());
         vocab.setDescription(request.getDescription());
         vocab = vocabRepository.save(vocab);
+        syncService.recordUpsert(vocab.getMember().getId(), SyncType.VOCAB, vocabId, vocabId);
 
         return UpdateVocabDto.Response.fromEntity(vocab);
     }
 
     @Transactional
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#vocabId)")
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
     public VocabDto deleteVocab(UUID vocabId) {
-        Vocab vocab = vocabRepository.findById(vocabId)
+        Vocab vocab = vocabRepository.findById(vocabId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_VOCAB));
 
         vocabRepository.delete(vocab);
+        resourceOwnerCache.evict(vocabId);
+        wordSearchIndex.removeVocab(vocab.getMember().getId(), vocabId);
+        syncService.recordDelete(vocab.getMember().getId(), SyncType.VOCAB, vocabId, vocabId);
 
         return VocabDto.fromEntity(vocab);
     }
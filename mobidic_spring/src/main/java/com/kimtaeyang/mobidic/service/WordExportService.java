@@ -0,0 +1,108 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.WordExportDto;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordExportReader;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.NO_VOCAB;
+
+/**
+ * 단어장 내보내기.
+ * 권한과 단어장 존재 여부는 응답을 시작하기 전에 확인하고,
+ * 본문은 커서로 읽은 단어를 한 개씩 바로 써서 엔티티나 전체 목록을 만들지 않는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WordExportService {
+    private static final String CSV_HEADER = "expression,part,definition,correctCount,incorrectCount,isLearned";
+
+    private final VocabRepository vocabRepository;
+    private final WordExportReader wordExportReader;
+    private final MemberScope memberScope;
+    private final ObjectMapper objectMapper;
+
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
+    public StreamingResponseBody exportWords(UUID vocabId, FileFormat format) {
+        Vocab vocab = vocabRepository.findById(vocabId, memberScope)
+                .orElseThrow(() -> new ApiException(NO_VOCAB));
+        UUID id = vocab.getId();
+
+        return (outputStream) -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == FileFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            try {
+                wordExportReader.forEachByVocabId(id, (row) -> write(writer, row, format));
+            } catch (UncheckedIOException e) {
+                //클라이언트가 연결을 끊으면 커서를 닫고 종료
+                log.warn("Word export aborted vocab={} : {}", id, e.getMessage());
+                throw e.getCause();
+            }
+
+            writer.flush();
+        };
+    }
+
+    private void write(Writer writer, WordExportDto.Row row, FileFormat format) {
+        try {
+            if (format == FileFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                return;
+            }
+
+            if (row.getDefs().isEmpty()) {
+                writeCsvLine(writer, row, null);
+            }
+            for (AddDefDto.Request def : row.getDefs()) {
+                writeCsvLine(writer, row, def);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, WordExportDto.Row row, AddDefDto.Request def) throws IOException {
+        writer.write(csvField(row.getExpression()));
+        writer.write(',');
+        writer.write(def == null ? "" : def.getPart().name().toLowerCase(Locale.ROOT));
+        writer.write(',');
+        writer.write(def == null ? "" : csvField(def.getDefinition()));
+        writer.write(',');
+        writer.write(row.getCorrectCount() + "," + row.getIncorrectCount() + "," + row.getIsLearned());
+        writer.write('\n');
+    }
+
+    //쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 "" 로 이스케이프
+    static String csvField(String value) {
+        if (value.chars().noneMatch((c) -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,195 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.WordImportDto;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 업로드 본문을 한 줄씩 읽어 단어 단위로 넘겨준다. 본문 전체를 메모리에 올리지 않는다.
+ * CSV 는 "expression,part,definition" 형식이며 같은 표현이 연속된 행은 한 단어의 뜻으로 묶는다.
+ * 내보내기 파일의 학습률 열(correctCount,incorrectCount,isLearned)은 무시한다.
+ * NDJSON 은 한 줄이 한 단어 {"expression": ..., "defs": [{"definition": ..., "part": ...}]} 이다.
+ */
+@RequiredArgsConstructor
+class WordImportReader {
+    private static final String CSV_HEADER = "expression,part,definition";
+    private static final char BOM = '\uFEFF';
+    private static final int MAX_CSV_FIELDS = 6;
+
+    private final BufferedReader reader;
+    private final FileFormat format;
+    private final ObjectMapper objectMapper;
+
+    private long lineNumber = 0;
+    private CsvRow pending;
+
+    Entry next() throws IOException {
+        return format == FileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Entry nextNdjson() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                return new Entry(lineNumber, objectMapper.readValue(line, WordImportDto.Row.class), null);
+            } catch (JsonProcessingException e) {
+                return new Entry(lineNumber, null, "Invalid JSON");
+            }
+        }
+
+        return null;
+    }
+
+    private Entry nextCsv() throws IOException {
+        CsvRow first = pending != null ? pending : readCsvRow();
+        pending = null;
+        if (first == null) {
+            return null;
+        }
+
+        List<AddDefDto.Request> defs = new ArrayList<>();
+        String error = first.error;
+        if (first.def != null) {
+            defs.add(first.def);
+        }
+
+        CsvRow next;
+        while ((next = readCsvRow()) != null
+                && first.expression != null
+                && first.expression.equals(next.expression)) {
+            if (error == null && next.error != null) {
+                error = "line " + next.line + ": " + next.error;
+            } else if (next.def != null) {
+                defs.add(next.def);
+            }
+        }
+        pending = next;
+
+        WordImportDto.Row row = WordImportDto.Row.builder()
+                .expression(first.expression)
+                .defs(defs)
+                .build();
+
+        return new Entry(first.line, row, error);
+    }
+
+    private CsvRow readCsvRow() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (line.isBlank()
+                    || (lineNumber == 1 && line.trim().toLowerCase(Locale.ROOT).startsWith(CSV_HEADER))) {
+                continue;
+            }
+
+            return parseCsvRow(line);
+        }
+
+        return null;
+    }
+
+    private CsvRow parseCsvRow(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null || fields.size() > MAX_CSV_FIELDS) {
+            return new CsvRow(lineNumber, null, null, "Invalid CSV row");
+        }
+
+        String expression = fields.getFirst().trim();
+        String part = fields.size() > 1 ? fields.get(1).trim() : "";
+        String definition = fields.size() > 2 ? fields.get(2).trim() : "";
+        if (part.isEmpty() && definition.isEmpty()) {
+            return new CsvRow(lineNumber, expression, null, null);
+        }
+
+        try {
+            AddDefDto.Request def = AddDefDto.Request.builder()
+                    .part(PartOfSpeech.valueOf(part.toUpperCase(Locale.ROOT)))
+                    .definition(definition)
+                    .build();
+            return new CsvRow(lineNumber, expression, def, null);
+        } catch (IllegalArgumentException e) {
+            return new CsvRow(lineNumber, expression, null, "Invalid part of speech");
+        }
+    }
+
+    //따옴표로 감싼 필드와 "" 이스케이프 지원, 닫히지 않은 따옴표는 null
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        lineNumber++;
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+            return line.substring(1);
+        }
+
+        return line;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Entry {
+        private final long line;
+        private final WordImportDto.Row row;
+        //파싱 단계 오류, 정상이면 null
+        private final String error;
+    }
+
+    @AllArgsConstructor
+    private static class CsvRow {
+        private final long line;
+        private final String expression;
+        private final AddDefDto.Request def;
+        private final String error;
+    }
+}
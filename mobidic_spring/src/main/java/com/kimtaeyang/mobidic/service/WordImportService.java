@@ -0,0 +1,261 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.AddDefDto;
+import com.kimtaeyang.mobidic.dto.WordImportDto;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
+
+/**
+ * CSV/NDJSON 단어 대량 등록.
+ * 본문을 스트리밍으로 읽어 chunk 단위로 중복을 한 번에 확인하고 JDBC batch 로 저장한다.
+ * chunk 마다 트랜잭션이 분리되므로 실패한 chunk 만 롤백되고 나머지는 유지된다.
+ * 중복 기준은 단건 등록(addWord, addDef)과 같이 표현, 뜻 각각 전체에서 유일해야 한다.
+ */
+@Service
+@Slf4j
+public class WordImportService {
+    private static final int MAX_ERRORS = 100;
+
+    private final VocabRepository vocabRepository;
+    private final WordBatchWriter wordBatchWriter;
+    private final MemberScope memberScope;
+    private final SyncService syncService;
+    private final WordSearchIndex wordSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final Counter importedRows;
+    private final Counter failedRows;
+    private final int chunkSize;
+    private final long maxRows;
+
+    public WordImportService(
+            VocabRepository vocabRepository,
+            WordBatchWriter wordBatchWriter,
+            MemberScope memberScope,
+            SyncService syncService,
+            WordSearchIndex wordSearchIndex,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${word.import.chunk-size:1000}") int chunkSize,
+            @Value("${word.import.max-rows:100000}") long maxRows
+    ) {
+        this.vocabRepository = vocabRepository;
+        this.wordBatchWriter = wordBatchWriter;
+        this.memberScope = memberScope;
+        this.syncService = syncService;
+        this.wordSearchIndex = wordSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.importedRows = Counter.builder("word.import.rows")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("word.import.rows")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
+    public WordImportDto.Response importWords(UUID vocabId, InputStream body, FileFormat format) {
+        Vocab vocab = vocabRepository.findById(vocabId, memberScope)
+                .orElseThrow(() -> new ApiException(NO_VOCAB));
+
+        WordImportReader reader = new WordImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, objectMapper);
+        ImportProgress progress = new ImportProgress();
+        List<WordImportReader.Entry> chunk = new ArrayList<>(chunkSize);
+
+        try {
+            WordImportReader.Entry entry;
+            while ((entry = reader.next()) != null) {
+                if (progress.total >= maxRows) {
+                    progress.fail(entry, "Too many rows, limit is " + maxRows);
+                    break;
+                }
+                progress.total++;
+
+                String error = entry.getError() != null ? entry.getError() : validate(entry.getRow());
+                if (error != null) {
+                    progress.fail(entry, error);
+                    continue;
+                }
+
+                chunk.add(entry);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(vocab.getMember().getId(), vocab.getId(), chunk, progress);
+                    chunk.clear();
+                }
+            }
+            writeChunk(vocab.getMember().getId(), vocab.getId(), chunk, progress);
+        } catch (IOException e) {
+            //이미 저장된 chunk 는 유지하고 중단 지점까지의 결과를 반환
+            log.warn("Word import interrupted : {}", e.getMessage());
+            progress.fail(null, "Upload interrupted");
+        }
+
+        //대량 등록은 색인에 하나씩 넣는 대신 회원 색인을 버려 다음 검색에서 다시 만든다 (다른 노드에도 전파)
+        if (progress.imported > 0) {
+            wordSearchIndex.evictMember(vocab.getMember().getId());
+        }
+
+        importedRows.increment(progress.imported);
+        failedRows.increment(progress.failed);
+
+        return progress.toResponse();
+    }
+
+    private void writeChunk(
+            UUID memberId, UUID vocabId, List<WordImportReader.Entry> chunk, ImportProgress progress
+    ) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> expressions = chunk.stream()
+                .map((entry) -> entry.getRow().getExpression())
+                .collect(Collectors.toSet());
+        Set<String> definitions = chunk.stream()
+                .flatMap((entry) -> defsOf(entry.getRow()).stream())
+                .map(AddDefDto.Request::getDefinition)
+                .collect(Collectors.toSet());
+
+        //같은 파일 안의 중복은 저장이 성공한 뒤에만 기록
+        Set<String> seenExpressions = new HashSet<>();
+        Set<String> seenDefinitions = new HashSet<>();
+        List<WordImportReader.Entry> accepted = new ArrayList<>();
+        List<WordImportReader.Entry> rejected = new ArrayList<>();
+        List<String> rejectReasons = new ArrayList<>();
+
+        try {
+            transactionTemplate.executeWithoutResult((status) -> {
+                Set<String> existingExpressions = wordBatchWriter.findExistingExpressions(expressions);
+                Set<String> existingDefinitions = wordBatchWriter.findExistingDefinitions(definitions);
+
+                for (WordImportReader.Entry entry : chunk) {
+                    WordImportDto.Row row = entry.getRow();
+                    String expressionKey = WordBatchWriter.key(row.getExpression());
+                    List<String> definitionKeys = defsOf(row).stream()
+                            .map((def) -> WordBatchWriter.key(def.getDefinition()))
+                            .toList();
+
+                    if (existingExpressions.contains(expressionKey)
+                            || progress.seenExpressions.contains(expressionKey)
+                            || seenExpressions.contains(expressionKey)) {
+                        rejected.add(entry);
+                        rejectReasons.add(DUPLICATED_WORD.getMessage());
+                    } else if (definitionKeys.stream().anyMatch((definitionKey) -> existingDefinitions.contains(definitionKey)
+                            || progress.seenDefinitions.contains(definitionKey)
+                            || seenDefinitions.contains(definitionKey))
+                            || new HashSet<>(definitionKeys).size() != definitionKeys.size()) {
+                        rejected.add(entry);
+                        rejectReasons.add(DUPLICATED_DEFINITION.getMessage());
+                    } else {
+                        //거절된 행의 표현, 뜻은 이후 행을 막지 않도록 받아들인 행만 기록
+                        seenExpressions.add(expressionKey);
+                        seenDefinitions.addAll(definitionKeys);
+                        accepted.add(entry);
+                    }
+                }
+
+                syncService.recordInserts(memberId, vocabId, wordBatchWriter.insert(vocabId, accepted.stream()
+                        .map(WordImportReader.Entry::getRow)
+                        .collect(Collectors.toList())));
+            });
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Word import chunk failed : {}", e.getMessage());
+            chunk.forEach((entry) -> progress.fail(entry, "Failed to save row"));
+            return;
+        }
+
+        for (int i = 0; i < rejected.size(); i++) {
+            progress.fail(rejected.get(i), rejectReasons.get(i));
+        }
+        progress.imported += accepted.size();
+        progress.seenExpressions.addAll(seenExpressions);
+        progress.seenDefinitions.addAll(seenDefinitions);
+
+        log.info("Word import progress vocab={} read={} imported={} failed={}",
+                vocabId, progress.total, progress.imported, progress.failed);
+    }
+
+    private String validate(WordImportDto.Row row) {
+        if (row == null) {
+            return INVALID_REQUEST_BODY.getMessage();
+        }
+
+        Set<ConstraintViolation<WordImportDto.Row>> violations = validator.validate(row);
+        return violations.stream()
+                .map((violation) -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static List<AddDefDto.Request> defsOf(WordImportDto.Row row) {
+        return row.getDefs() == null ? List.of() : row.getDefs();
+    }
+
+    private static class ImportProgress {
+        private final Set<String> seenExpressions = new HashSet<>();
+        private final Set<String> seenDefinitions = new HashSet<>();
+        private final List<WordImportDto.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private void fail(WordImportReader.Entry entry, String message) {
+            failed++;
+            if (errors.size() >= MAX_ERRORS) {
+                return;
+            }
+
+            errors.add(WordImportDto.RowError.builder()
+                    .line(entry == null ? 0 : entry.getLine())
+                    .expression(entry == null || entry.getRow() == null ? null : entry.getRow().getExpression())
+                    .message(message)
+                    .build());
+        }
+
+        private WordImportDto.Response toResponse() {
+            return WordImportDto.Response.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
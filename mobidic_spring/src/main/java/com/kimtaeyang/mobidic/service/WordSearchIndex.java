@@ -0,0 +1,427 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kimtaeyang.mobidic.dto.SimilarWordDto;
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 단어 표현 색인 (자동완성, 오타 검색).
+ * 회원의 모든 단어를 소문자 표현 순으로 정렬한 배열로 보관하고, 접두어는 이진 탐색 후 앞에서부터 반환한다.
+ * 오타 검색은 같은 배열을 trie 처럼 훑으며 편집 거리 이내의 단어를 찾으므로 추가 구조가 없다.
+ * 처음 검색할 때 DB 에서 한 번에 만들고, 일정 시간 검색이 없는 회원은 제거한다.
+ * 단어 추가/수정/삭제는 커밋 이후 이미 색인이 있는 회원에게만 반영하고,
+ * 다른 노드에는 pub/sub 으로 해당 회원 색인의 무효화를 알린다. 메시지를 놓쳐도 ttl 이후에는 다시 만든다.
+ * 목표 : 색인이 만들어진 뒤 키 입력당 p99 1ms 미만 (word.suggest 타이머)
+ */
+@Component
+@Slf4j
+public class WordSearchIndex implements MessageListener {
+    static final String CHANNEL = "word:index";
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 50;
+    public static final int MAX_DISTANCE = 2;
+    //편집 거리 이내 후보가 많을 때 거리순으로 자르는 개수
+    private static final int MAX_CANDIDATES = 100;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final WordRepository wordRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final boolean pubsub;
+    //자신이 보낸 무효화 메시지는 이미 반영했으므로 건너뛰기 위한 노드 id
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<UUID, MemberIndex> indexes;
+    //회원 변경마다 증가. 색인을 만드는 도중 변경이 커밋되면 만든 색인을 버린다
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Timer searchTimer;
+    private final Timer similarTimer;
+
+    public WordSearchIndex(
+            WordRepository wordRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${word.search-index.members:10000}") long members,
+            @Value("${word.search-index.idle:1800000}") long idle,
+            @Value("${word.search-index.ttl:3600000}") long ttl,
+            @Value("${word.search-index.pubsub:true}") boolean pubsub
+    ) {
+        this.wordRepository = wordRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.pubsub = pubsub;
+        //다른 노드의 무효화 메시지를 놓쳐도 ttl 이후에는 DB 에서 다시 만든다
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(members)
+                .expireAfterAccess(Duration.ofMillis(idle))
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        this.searchTimer = Timer.builder("word.suggest")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+        this.similarTimer = Timer.builder("word.similar")
+                .publishPercentiles(0.99)
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "wordSearchIndex");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (pubsub) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    public List<WordSuggestDto> search(UUID memberId, String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        return searchTimer.record(() -> index(memberId)
+                .search(key(prefix.trim()), limit));
+    }
+
+    //편집 거리 maxDistance(최대 2) 이내의 단어, 거리순
+    public List<SimilarWordDto> findSimilar(UUID memberId, String query, int maxDistance) {
+        if (query == null || query.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        int distance = Math.min(Math.max(maxDistance, 0), MAX_DISTANCE);
+        return similarTimer.record(() -> index(memberId)
+                .similar(key(query.trim()), distance, MAX_CANDIDATES));
+    }
+
+    public void put(UUID memberId, Word word) {
+        WordSuggestDto entry = new WordSuggestDto(word.getId(), word.getVocab().getId(), word.getExpression());
+        afterCommit(() -> update(memberId, (index) -> index.with(entry)));
+    }
+
+    public void remove(UUID memberId, UUID wordId) {
+        afterCommit(() -> update(memberId,
+                (index) -> index.without((entry) -> entry.getId().equals(wordId))));
+    }
+
+    public void removeVocab(UUID memberId, UUID vocabId) {
+        afterCommit(() -> update(memberId,
+                (index) -> index.without((entry) -> entry.getVocabId().equals(vocabId))));
+    }
+
+    public void evictMember(UUID memberId) {
+        afterCommit(() -> {
+            invalidate(memberId);
+            publish(memberId);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+        try {
+            if (!nodeId.equals(body[0])) {
+                invalidate(UUID.fromString(body[1]));
+            }
+        } catch (RuntimeException e) {
+            log.error("Invalid word index message : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 색인이 없으면 DB 에서 만든다.
+     * 조회와 캐시 저장 사이에 커밋된 변경은 색인이 없어 반영되지 못하므로,
+     * 저장 후 회원의 version 이 바뀌었으면 저장한 색인을 버려 다음 검색에서 다시 만들게 한다.
+     */
+    private MemberIndex index(UUID memberId) {
+        MemberIndex cached = indexes.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(memberId);
+        long version = versions.get(stripe);
+        MemberIndex loaded = load(memberId);
+        MemberIndex existing = indexes.asMap().putIfAbsent(memberId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        if (versions.get(stripe) != version) {
+            indexes.asMap().remove(memberId, loaded);
+        }
+
+        return loaded;
+    }
+
+    //version 을 먼저 올려 진행 중인 색인 생성이 변경을 놓치지 않게 한다
+    private void update(UUID memberId, UnaryOperator<MemberIndex> change) {
+        versions.incrementAndGet(stripe(memberId));
+        indexes.asMap().computeIfPresent(memberId, (id, index) -> change.apply(index));
+        publish(memberId);
+    }
+
+    private void invalidate(UUID memberId) {
+        versions.incrementAndGet(stripe(memberId));
+        indexes.invalidate(memberId);
+    }
+
+    //커밋은 끝났으므로 발행 실패는 ttl 만료에 맡기고 요청은 실패시키지 않는다
+    private void publish(UUID memberId) {
+        if (!pubsub) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ":" + memberId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish word index invalidation : {}", e.getMessage());
+        }
+    }
+
+    private static int stripe(UUID memberId) {
+        return memberId.hashCode() & (VERSION_STRIPES - 1);
+    }
+
+    private MemberIndex load(UUID memberId) {
+        return MemberIndex.of(wordRepository.findSuggestionsByMemberId(memberId));
+    }
+
+    //롤백된 변경이 색인에 남지 않도록 커밋 이후 반영
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    static String key(String expression) {
+        return expression.toLowerCase(Locale.ROOT);
+    }
+
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[b.length()];
+    }
+
+    /**
+     * 한 회원의 불변 색인. 변경 시 배열을 복사한 새 색인으로 교체한다.
+     * 회원당 단어 수는 수천 개 수준이므로 O(n) 복사로 충분하다.
+     */
+    static class MemberIndex {
+        private static final Comparator<WordSuggestDto> ORDER = Comparator
+                .comparing((WordSuggestDto entry) -> key(entry.getExpression()))
+                .thenComparing(WordSuggestDto::getId);
+
+        private final String[] keys;
+        private final WordSuggestDto[] entries;
+        private final int maxKeyLength;
+
+        private MemberIndex(WordSuggestDto[] entries) {
+            this.entries = entries;
+            this.keys = new String[entries.length];
+            int maxLength = 0;
+            for (int i = 0; i < entries.length; i++) {
+                keys[i] = key(entries[i].getExpression());
+                maxLength = Math.max(maxLength, keys[i].length());
+            }
+            this.maxKeyLength = maxLength;
+        }
+
+        static MemberIndex of(Collection<WordSuggestDto> words) {
+            WordSuggestDto[] entries = words.toArray(new WordSuggestDto[0]);
+            Arrays.sort(entries, ORDER);
+            return new MemberIndex(entries);
+        }
+
+        int size() {
+            return entries.length;
+        }
+
+        List<WordSuggestDto> search(String prefix, int limit) {
+            List<WordSuggestDto> result = new ArrayList<>(Math.min(limit, entries.length));
+            for (int i = lowerBound(prefix); i < keys.length && result.size() < limit; i++) {
+                if (!keys[i].startsWith(prefix)) {
+                    break;
+                }
+                result.add(entries[i]);
+            }
+
+            return result;
+        }
+
+        List<SimilarWordDto> similar(String query, int maxDistance, int limit) {
+            List<int[]> matches = match(query, maxDistance);
+            //키 배열이 정렬되어 있으므로 같은 거리에서는 표현순
+            matches.sort(Comparator.comparingInt((int[] match) -> match[1])
+                    .thenComparingInt((match) -> match[0]));
+
+            return matches.stream()
+                    .limit(limit)
+                    .map((match) -> {
+                        WordSuggestDto entry = entries[match[0]];
+                        return SimilarWordDto.builder()
+                                .id(entry.getId())
+                                .vocabId(entry.getVocabId())
+                                .expression(entry.getExpression())
+                                .distance(match[1])
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * 정렬된 키를 암묵적인 trie 로 보고 편집 거리 DP 행을 공통 접두어만큼 재사용한다 (Levenshtein automaton 탐색).
+         * 어떤 접두어의 행 최솟값이 maxDistance 를 넘으면 그 접두어로 시작하는 키를 모두 건너뛴다.
+         * 반환값은 {키 위치, 거리} 목록
+         */
+        private List<int[]> match(String query, int maxDistance) {
+            List<int[]> matches = new ArrayList<>();
+            int[][] rows = new int[maxKeyLength + 1][query.length() + 1];
+            for (int j = 0; j <= query.length(); j++) {
+                rows[0][j] = j;
+            }
+
+            String previous = "";
+            int computed = 0;
+            int i = 0;
+            while (i < keys.length) {
+                String key = keys[i];
+                int depth = Math.min(computed, commonPrefixLength(previous, key));
+                previous = key;
+
+                boolean pruned = false;
+                for (; depth < key.length(); depth++) {
+                    if (nextRow(rows[depth], rows[depth + 1], key.charAt(depth), query) > maxDistance) {
+                        int prefixLength = depth + 1;
+                        do {
+                            i++;
+                        } while (i < keys.length && keys[i].regionMatches(0, key, 0, prefixLength));
+                        pruned = true;
+                        break;
+                    }
+                }
+                computed = pruned ? depth + 1 : key.length();
+
+                if (!pruned) {
+                    int distance = rows[key.length()][query.length()];
+                    if (distance <= maxDistance) {
+                        matches.add(new int[]{i, distance});
+                    }
+                    i++;
+                }
+            }
+
+            return matches;
+        }
+
+        //접두어에 문자 c 를 붙였을 때의 DP 행을 채우고 행의 최솟값을 반환
+        private static int nextRow(int[] row, int[] next, char c, String query) {
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int j = 1; j < next.length; j++) {
+                int cost = query.charAt(j - 1) == c ? 0 : 1;
+                next[j] = Math.min(Math.min(next[j - 1] + 1, row[j] + 1), row[j - 1] + cost);
+                min = Math.min(min, next[j]);
+            }
+
+            return min;
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int length = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < length && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+
+            return i;
+        }
+
+        //같은 단어가 이미 있으면 교체 (표현 수정, 중복 반영)
+        MemberIndex with(WordSuggestDto entry) {
+            List<WordSuggestDto> words = new ArrayList<>(entries.length + 1);
+            for (WordSuggestDto existing : entries) {
+                if (!existing.getId().equals(entry.getId())) {
+                    words.add(existing);
+                }
+            }
+
+            int position = Collections.binarySearch(words, entry, ORDER);
+            words.add(position < 0 ? -position - 1 : position, entry);
+
+            return new MemberIndex(words.toArray(new WordSuggestDto[0]));
+        }
+
+        MemberIndex without(Predicate<WordSuggestDto> removed) {
+            return new MemberIndex(Arrays.stream(entries)
+                    .filter(removed.negate())
+                    .toArray(WordSuggestDto[]::new));
+        }
+
+        //prefix 이상인 첫 번째 키의 위치
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.kimtaeyang.mobidic.service;
 
 import com.kimtaeyang.mobidic.dto.AddWordDto;
+import com.kimtaeyang.mobidic.dto.CursorPageDto;
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.PageCursor;
+import com.kimtaeyang.mobidic.dto.SimilarWordDto;
 import com.kimtaeyang.mobidic.dto.WordDetailDto;
 import com.kimtaeyang.mobidic.dto.WordDto;
-import com.kimtaeyang.mobidic.entity.Def;
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
 import com.kimtaeyang.mobidic.entity.Rate;
 import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.entity.Word;
@@ -12,14 +16,25 @@ import com.kimtaeyang.mobidic.repository.DefRepository;
 import com.kimtaeyang.mobidic.repository.RateRepository;
 import com.kimtaeyang.mobidic.repository.VocabRepository;
 import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
 import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.SyncType;
+import com.kimtaeyang.mobidic.type.WordField;
+import com.kimtaeyang.mobidic.type.WordSort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -29,20 +44,31 @@ import static com.kimtaeyang.mobidic.code.GeneralResponseCode.*;
 @Slf4j
 @RequiredArgsConstructor
 public class WordService {
+    private static final int NEAR_DUPLICATE_SIZE = 5;
+
     private final WordRepository wordRepository;
     private final VocabRepository vocabRepository;
     private final DefRepository defRepository;
     private final RateRepository rateRepository;
+    private final ResourceOwnerCache resourceOwnerCache;
+    private final MemberScope memberScope;
+    private final WordSearchIndex wordSearchIndex;
+    private final SyncService syncService;
 
     @Transactional
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#vocabId)")
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vocabId)")
     public AddWordDto.Response addWord(UUID vocabId, AddWordDto.Request request) {
-        Vocab vocab = vocabRepository.findById(vocabId)
+        Vocab vocab = vocabRepository.findById(vocabId, memberScope)
                         .orElseThrow(() -> new ApiException(NO_VOCAB));
 
         wordRepository.findByExpression(request.getExpression())
                 .ifPresent((w) -> { throw new ApiException(DUPLICATED_WORD); });
 
+        UUID memberId = vocab.getMember().getId();
+        List<SimilarWordDto> similarWords = rankSimilarWords(wordSearchIndex.findSimilar(
+                memberId, request.getExpression(), nearDuplicateDistance(request.getExpression())),
+                NEAR_DUPLICATE_SIZE);
+
         Word word = Word.builder()
                 .expression(request.getExpression())
                 .vocab(vocab)
@@ -56,49 +82,124 @@ public class WordService {
                 .isLearned(0)
                 .build();
         rateRepository.save(rate);
+        wordSearchIndex.put(memberId, word);
+        syncService.recordUpsert(memberId, SyncType.WORD, word.getId(), vocab.getId());
 
-        return AddWordDto.Response.fromEntity(word);
+        AddWordDto.Response response = AddWordDto.Response.fromEntity(word);
+        response.setSimilarWords(similarWords);
+
+        return response;
     }
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#vId)")
-    public List<WordDetailDto> getWordsByVocabId(UUID vId) {
-        Vocab vocab = vocabRepository.findById(vId)
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vId)")
+    public List<WordDetailDto> getWordsByVocabId(UUID vId, Difficulty difficulty, Set<WordField> fields) {
+        Vocab vocab = vocabRepository.findById(vId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_VOCAB));
 
-        return wordRepository.findByVocab(vocab)
-                .stream().map((word) -> {
-                    Rate rate = rateRepository.findRateByWord(word)
-                            .orElseThrow(() -> new ApiException(INTERNAL_SERVER_ERROR));
+        //난이도가 필요 없으면 단어만 1회, 뜻은 요청했을 때만 1회 조회
+        if (difficulty == null && !fields.contains(WordField.DIFFICULTY)) {
+            List<Word> words = wordRepository.findByVocab(vocab);
+            Map<UUID, List<DefDto>> defsByWordId = findDefsByWordId(words.stream()
+                    .map(Word::getId).collect(Collectors.toList()), fields);
+
+            return words.stream()
+                    .map((word) -> WordDetailDto.fromEntity(word,
+                            defsByWordId.getOrDefault(word.getId(), new ArrayList<>()), null, fields))
+                    .collect(Collectors.toList());
+        }
 
-                    List<Def> defs = defRepository.findByWord(word);
+        //난이도 조건이 있으면 학습률+단어 1회, 뜻 1회 조회
+        if (difficulty != null) {
+            List<Rate> rates = rateRepository.findWithWordByVocabId(vocab.getId(), difficulty);
+            Map<UUID, List<DefDto>> defsByWordId = findDefsByWordId(
+                    rates.stream().map(Rate::getWordId).collect(Collectors.toList()), fields);
 
-                    Difficulty diff = getDifficulty(rate.getCorrectCount(), rate.getIncorrectCount());
+            return rates.stream().map((rate) -> {
+                        List<DefDto> defs = defsByWordId.getOrDefault(rate.getWordId(), new ArrayList<>());
 
-                    return WordDetailDto.fromEntity(word, defs, diff);
+                        return WordDetailDto.fromEntity(rate.getWord(), defs, rate.getDifficulty(), fields);
+                    }).collect(Collectors.toList());
+        }
+
+        //조건이 없으면 fields 와 관계없이 같은 단어를 돌려주도록 학습률은 left join, 뜻 1회 조회
+        List<WordRepository.WordDifficulty> words = wordRepository.findWithDifficultyByVocabId(vocab.getId());
+        Map<UUID, List<DefDto>> defsByWordId = findDefsByWordId(words.stream()
+                .map((word) -> word.getWord().getId()).collect(Collectors.toList()), fields);
+
+        return words.stream().map((word) -> {
+                    List<DefDto> defs = defsByWordId.getOrDefault(word.getWord().getId(), new ArrayList<>());
+
+                    return WordDetailDto.fromEntity(word.getWord(), defs, word.getDifficulty(), fields);
                 }).collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#wId)")
-    public WordDetailDto getWordDetail(UUID wId) {
-        Word word = wordRepository.findById(wId)
-                .orElseThrow(() -> new ApiException(NO_WORD));
+    @PreAuthorize("@memberScope.scoped or @vocabAccessHandler.ownershipCheck(#vId)")
+    public CursorPageDto<WordDetailDto> getWordPageByVocabId(
+            UUID vId, WordSort sort, Difficulty difficulty, String cursor, int size, Set<WordField> fields
+    ) {
+        Vocab vocab = vocabRepository.findById(vId, memberScope)
+                .orElseThrow(() -> new ApiException(NO_VOCAB));
 
-        List<Def> defs = defRepository.findByWord(word);
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = CursorPageDto.clampSize(size);
+        List<Word> words = findWordPage(vocab.getId(), sort, difficulty,
+                cursor == null ? null : PageCursor.decode(cursor), Limit.of(pageSize + 1));
+        boolean hasNext = words.size() > pageSize;
+        if (hasNext) {
+            words = words.subList(0, pageSize);
+        }
 
-        Rate rate = rateRepository.findRateByWord(word)
-                .orElseThrow(() -> new ApiException(INTERNAL_SERVER_ERROR));
+        //학습률은 난이도를 응답하거나 난이도순 cursor 를 만들 때만 조회
+        List<UUID> wordIds = words.stream().map(Word::getId).collect(Collectors.toList());
+        boolean withRate = sort == WordSort.DIFFICULTY || fields.contains(WordField.DIFFICULTY);
+        Map<UUID, Rate> ratesByWordId = withRate
+                ? rateRepository.findAllById(wordIds)
+                        .stream().collect(Collectors.toMap(Rate::getWordId, (rate) -> rate))
+                : new HashMap<>();
+        Map<UUID, List<DefDto>> defsByWordId = findDefsByWordId(wordIds, fields);
 
-        Difficulty diff = getDifficulty(rate.getCorrectCount(), rate.getIncorrectCount());
+        List<WordDetailDto> items = words.stream()
+                .filter((word) -> !withRate || ratesByWordId.containsKey(word.getId()))
+                .map((word) -> {
+                    Rate rate = ratesByWordId.get(word.getId());
+                    List<DefDto> defs = defsByWordId.getOrDefault(word.getId(), new ArrayList<>());
 
-        return WordDetailDto.fromEntity(word, defs, diff);
+                    return WordDetailDto.fromEntity(word, defs, rate == null ? null : rate.getDifficulty(), fields);
+                }).collect(Collectors.toList());
+
+        return CursorPageDto.<WordDetailDto>builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? toCursor(words.getLast(), ratesByWordId, sort).encode() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wId)")
+    public WordDetailDto getWordDetail(UUID wId, Set<WordField> fields) {
+        Word word = wordRepository.findById(wId, memberScope)
+                .orElseThrow(() -> new ApiException(NO_WORD));
+
+        List<DefDto> defs = fields.contains(WordField.DEFS)
+                ? defRepository.findDtosByWordId(word.getId())
+                : null;
+
+        Difficulty difficulty = null;
+        if (fields.contains(WordField.DIFFICULTY)) {
+            difficulty = rateRepository.findRateByWord(word)
+                    .orElseThrow(() -> new ApiException(INTERNAL_SERVER_ERROR))
+                    .getDifficulty();
+        }
+
+        return WordDetailDto.fromEntity(word, defs, difficulty, fields);
     }
 
     @Transactional
-    @PreAuthorize("@wordAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
     public AddWordDto.Response updateWord(UUID wordId, AddWordDto.Request request) {
-        Word word = wordRepository.findById(wordId)
+        Word word = wordRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
 
         wordRepository.findByExpression(request.getExpression())
@@ -106,45 +207,107 @@ public class WordService {
 
         word.setExpression(request.getExpression());
         wordRepository.save(word);
+        UUID memberId = word.getVocab().getMember().getId();
+        wordSearchIndex.put(memberId, word);
+        syncService.recordUpsert(memberId, SyncType.WORD, wordId, word.getVocab().getId());
 
         return AddWordDto.Response.fromEntity(word);
     }
 
     @Transactional
-    @PreAuthorize("@vocabAccessHandler.ownershipCheck(#wordId)")
+    @PreAuthorize("@memberScope.scoped or @wordAccessHandler.ownershipCheck(#wordId)")
     public WordDto deleteWord(UUID wordId) {
-        Word word = wordRepository.findById(wordId)
+        Word word = wordRepository.findById(wordId, memberScope)
                 .orElseThrow(() -> new ApiException(NO_WORD));
 
+        //삭제 후에는 소유자 조회 쿼리가 삭제를 flush 해 빈 결과가 되므로 삭제 전에 구한다
+        UUID memberId = word.getVocab().getMember().getId();
         wordRepository.delete(word);
+        wordSearchIndex.remove(memberId, wordId);
+        syncService.recordDelete(memberId, SyncType.WORD, wordId, word.getVocab().getId());
+        resourceOwnerCache.evict(wordId);
 
         return WordDto.fromEntity(word);
     }
 
-    private Difficulty getDifficulty(Integer correct, Integer incorrect) {
-        double diff = calcDifficultyRatio(correct, incorrect);
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public List<WordSuggestDto> suggestWords(UUID memberId, String prefix, int size) {
+        return wordSearchIndex.search(memberId, prefix, size);
+    }
+
+    @Transactional(readOnly = true)
+    @PreAuthorize("@memberAccessHandler.ownershipCheck(#memberId)")
+    public List<SimilarWordDto> findSimilarWords(UUID memberId, String query, int distance, int size) {
+        return rankSimilarWords(wordSearchIndex.findSimilar(memberId, query, distance),
+                Math.min(Math.max(size, 1), WordSearchIndex.MAX_SIZE));
+    }
+
+    //거리, 학습 중인 단어 우선, 표현 순. 학습 상태는 후보에 대해서만 한 번에 조회
+    private List<SimilarWordDto> rankSimilarWords(List<SimilarWordDto> candidates, int size) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Map<UUID, Integer> learnedByWordId = rateRepository.findAllById(
+                        candidates.stream().map(SimilarWordDto::getId).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(Rate::getWordId, Rate::getIsLearned));
+        candidates.forEach((word) -> word.setIsLearned(learnedByWordId.getOrDefault(word.getId(), 0)));
+
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(SimilarWordDto::getDistance)
+                        .thenComparingInt(SimilarWordDto::getIsLearned)
+                        .thenComparing((word) -> WordSearchIndex.key(word.getExpression())))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    //짧은 단어는 한 글자 차이만 오타로 본다
+    private int nearDuplicateDistance(String expression) {
+        return expression.length() <= 4 ? 1 : WordSearchIndex.MAX_DISTANCE;
+    }
+
+    //difficulty 가 null 이면 난이도 조건 없음
+    private List<Word> findWordPage(
+            UUID vocabId, WordSort sort, Difficulty difficulty, PageCursor cursor, Limit limit
+    ) {
+        if (sort == WordSort.DIFFICULTY) {
+            return cursor == null
+                    ? wordRepository.findPageOrderByDifficulty(vocabId, difficulty, limit)
+                    : wordRepository.findPageOrderByDifficulty(
+                            vocabId, difficulty, cursor.getDifficultyKey(), cursor.getId(), limit);
+        }
 
-        if(diff < 0.3){
-            return Difficulty.EASY;
-        } else if (diff > 0.7) {
-            return Difficulty.HARD;
+        if (sort == WordSort.EXPRESSION) {
+            return cursor == null
+                    ? wordRepository.findPageOrderByExpression(vocabId, difficulty, limit)
+                    : wordRepository.findPageOrderByExpression(
+                            vocabId, difficulty, cursor.getKey(), cursor.getId(), limit);
         }
 
-        return Difficulty.NORMAL;
+        return cursor == null
+                ? wordRepository.findPageOrderByCreatedAt(vocabId, difficulty, limit)
+                : wordRepository.findPageOrderByCreatedAt(
+                        vocabId, difficulty, cursor.getTimestampKey(), cursor.getId(), limit);
     }
 
-    private double calcDifficultyRatio(Integer correct, Integer incorrect) {
-        /*
-            난이도 함수 : -0.04correct + 0.05incorrect + 0.5
-        */
-        double diff = (-0.04 * correct) + (0.05 * incorrect) + 0.5;
-        if (diff > 1){
-            diff = 1;
+    private PageCursor toCursor(Word word, Map<UUID, Rate> ratesByWordId, WordSort sort) {
+        if (sort == WordSort.DIFFICULTY) {
+            return new PageCursor(ratesByWordId.get(word.getId()).getDifficulty().name(), word.getId());
+        }
+        if (sort == WordSort.EXPRESSION) {
+            return new PageCursor(word.getExpression(), word.getId());
         }
-        else if (diff < 0){
-            diff = 0;
+
+        return PageCursor.of(word.getCreatedAt(), word.getId());
+    }
+
+    //뜻을 요청하지 않았으면 조회하지 않음
+    private Map<UUID, List<DefDto>> findDefsByWordId(List<UUID> wordIds, Set<WordField> fields) {
+        if (wordIds.isEmpty() || !fields.contains(WordField.DEFS)) {
+            return new HashMap<>();
         }
 
-        return diff;
+        return defRepository.findDtosByWordIdIn(wordIds)
+                .stream().collect(Collectors.groupingBy(DefDto::getWordId));
     }
 }
@@ -0,0 +1,18 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BatchOperation {
+    ADD_WORD("단어 추가"),
+    UPDATE_WORD("단어 수정"),
+    DELETE_WORD("단어 삭제"),
+    ADD_DEF("뜻 추가"),
+    UPDATE_DEF("뜻 수정"),
+    DELETE_DEF("뜻 삭제"),
+    TOGGLE_RATE("학습 여부 변경");
+
+    private final String name;
+}
@@ -3,6 +3,7 @@ package com.kimtaeyang.mobidic.type;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+//순서가 word_rate.difficulty 에 저장되므로 (EASY=0, NORMAL=1, HARD=2) 순서를 바꾸지 않는다
 @Getter
 @RequiredArgsConstructor
 public enum Difficulty {
@@ -11,4 +12,31 @@ public enum Difficulty {
     HARD("어려움");
 
     private final String name;
+
+    public static Difficulty of(int correct, int incorrect) {
+        double diff = calcRatio(correct, incorrect);
+
+        if(diff < 0.3){
+            return EASY;
+        } else if (diff > 0.7) {
+            return HARD;
+        }
+
+        return NORMAL;
+    }
+
+    private static double calcRatio(int correct, int incorrect) {
+        /*
+            난이도 함수 : -0.04correct + 0.05incorrect + 0.5
+        */
+        double diff = (-0.04 * correct) + (0.05 * incorrect) + 0.5;
+        if (diff > 1){
+            diff = 1;
+        }
+        else if (diff < 0){
+            diff = 0;
+        }
+
+        return diff;
+    }
 }
@@ -0,0 +1,23 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum FileFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"));
+
+    private final MediaType mediaType;
+
+    public static Optional<FileFormat> from(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter((format) -> format.mediaType.isCompatibleWith(mediaType))
+                .findFirst();
+    }
+}
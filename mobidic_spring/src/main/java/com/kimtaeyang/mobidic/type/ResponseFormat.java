@@ -0,0 +1,53 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+//Accept 로 고르는 응답 형식. JSON 외 형식은 ETag 에 suffix 를 붙여 표현마다 다른 ETag 를 쓴다
+@Getter
+@RequiredArgsConstructor
+public enum ResponseFormat {
+    JSON(MediaType.APPLICATION_JSON, ""),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "smile"),
+    CBOR(MediaType.parseMediaType("application/cbor"), "cbor");
+
+    private final MediaType mediaType;
+    private final String suffix;
+
+    //Accept 중 품질이 가장 높은 형식, 없거나 */* 이면 기본값 JSON
+    public static ResponseFormat from(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+            for (MediaType mediaType : mediaTypes) {
+                for (ResponseFormat format : values()) {
+                    if (format.mediaType.isCompatibleWith(mediaType)) {
+                        return format;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        return JSON;
+    }
+
+    public String toETag(String eTag) {
+        if (suffix.isEmpty()) {
+            return eTag;
+        }
+
+        //"12" -> "12-cbor"
+        return eTag.substring(0, eTag.length() - 1) + "-" + suffix + "\"";
+    }
+}
@@ -0,0 +1,14 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RevocationStatus {
+    VALID("유효"),
+    LOGGED_OUT("로그아웃"),
+    MEMBER_REVOKED("회원 토큰 일괄 폐기");
+
+    private final String name;
+}
@@ -0,0 +1,15 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SyncType {
+    VOCAB("단어장"),
+    //학습률은 단어와 id 를 공유하므로 단어 변경으로 기록
+    WORD("단어"),
+    DEF("뜻");
+
+    private final String name;
+}
@@ -0,0 +1,17 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//단어장 응답(VocabDto) 필드
+@Getter
+@RequiredArgsConstructor
+public enum VocabField {
+    ID("아이디"),
+    MEMBER_ID("회원 아이디"),
+    TITLE("제목"),
+    DESCRIPTION("설명"),
+    CREATED_AT("생성일");
+
+    private final String name;
+}
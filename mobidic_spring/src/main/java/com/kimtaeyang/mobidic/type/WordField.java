@@ -0,0 +1,18 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//단어 응답(WordDetailDto) 필드. DIFFICULTY 는 학습률, DEFS 는 뜻 조회가 필요하다
+@Getter
+@RequiredArgsConstructor
+public enum WordField {
+    ID("아이디"),
+    VOCAB_ID("단어장 아이디"),
+    EXPRESSION("표현"),
+    DIFFICULTY("난이도"),
+    CREATED_AT("생성일"),
+    DEFS("뜻");
+
+    private final String name;
+}
@@ -0,0 +1,14 @@
+package com.kimtaeyang.mobidic.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WordSort {
+    CREATED_AT("생성순"),
+    EXPRESSION("표현순"),
+    DIFFICULTY("난이도순");
+
+    private final String name;
+}
@@ -0,0 +1,99 @@
+package com.kimtaeyang.mobidic.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.kimtaeyang.mobidic.dto.ApiResponse;
+import com.kimtaeyang.mobidic.dto.WordDetailDto;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.ResponseFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.OK;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MessageConverterConfigTest {
+    private static final WordDetailDto WORD = WordDetailDto.builder()
+            .id(UUID.randomUUID())
+            .expression("apple")
+            .difficulty(Difficulty.EASY)
+            .build();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MessageConverterConfig config = new MessageConverterConfig();
+        HttpMessageConverters converters = new HttpMessageConverters(
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                config.cborHttpMessageConverter(Jackson2ObjectMapperBuilder.json()),
+                config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new WordController())
+                .setMessageConverters(converters.getConverters().toArray(HttpMessageConverter[]::new))
+                .build();
+    }
+
+    @Test
+    @DisplayName("[MessageConverterConfig] JSON stays default unless binary format is requested")
+    void negotiateFormat() throws Exception {
+        mockMvc.perform(get("/word"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/word").accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+
+        assertEquals("apple", read(ResponseFormat.CBOR, new ObjectMapper(new CBORFactory())));
+        assertEquals("apple", read(ResponseFormat.SMILE, new ObjectMapper(new SmileFactory())));
+    }
+
+    @Test
+    @DisplayName("[ResponseFormat] ETag differs by negotiated format")
+    void eTagByFormat() {
+        assertEquals(ResponseFormat.JSON, ResponseFormat.from(null));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.from("*/*"));
+        assertEquals(ResponseFormat.CBOR, ResponseFormat.from("application/cbor, application/json;q=0.5"));
+        assertEquals(ResponseFormat.JSON, ResponseFormat.from("application/cbor;q=0.1, application/json"));
+
+        assertEquals("\"12\"", ResponseFormat.JSON.toETag("\"12\""));
+        assertEquals("\"12-cbor\"", ResponseFormat.CBOR.toETag("\"12\""));
+        assertEquals("\"12-smile\"", ResponseFormat.SMILE.toETag("\"12\""));
+    }
+
+    private String read(ResponseFormat format, ObjectMapper objectMapper) throws Exception {
+        byte[] body = mockMvc.perform(get("/word").accept(format.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(format.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = objectMapper.readTree(body);
+        return response.get("data").get(0).get("expression").asText();
+    }
+
+    @RestController
+    static class WordController {
+        @GetMapping("/word")
+        public ResponseEntity<?> getWords() {
+            return ApiResponse.toResponseEntity(OK, List.of(WORD));
+        }
+    }
+}
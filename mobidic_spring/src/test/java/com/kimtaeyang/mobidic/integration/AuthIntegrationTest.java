@@ -116,7 +116,7 @@ public class AuthIntegrationTest {
                 .andReturn();
 
         String json = result.getResponse().getContentAsString();
-        String token = objectMapper.readTree(json).path("data").asText();
+        String token = objectMapper.readTree(json).path("data").path("token").asText();
 
         assertThat(jwtUtil.validateToken(token));
 
@@ -178,7 +178,7 @@ public class AuthIntegrationTest {
 
         //Logout success
         String loginJson = loginResult.getResponse().getContentAsString();
-        String token = objectMapper.readTree(loginJson).path("data").asText();
+        String token = objectMapper.readTree(loginJson).path("data").path("token").asText();
 
         UUID memberId = jwtUtil.getIdFromToken(token);
 
@@ -225,7 +225,7 @@ public class AuthIntegrationTest {
 
         //Withdraw success
         String loginJson = loginResult.getResponse().getContentAsString();
-        String token = objectMapper.readTree(loginJson).path("data").asText();
+        String token = objectMapper.readTree(loginJson).path("data").path("token").asText();
 
         UUID memberId = jwtUtil.getIdFromToken(token);
 
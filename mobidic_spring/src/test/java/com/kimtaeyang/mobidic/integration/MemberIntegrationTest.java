@@ -129,7 +129,7 @@ public class MemberIntegrationTest {
                 .andReturn();
 
         String json = loginResult.getResponse().getContentAsString();
-        String token = objectMapper.readTree(json).get("data").asText();
+        String token = objectMapper.readTree(json).get("data").get("token").asText();
         UUID memberId = jwtUtil.getIdFromToken(token);
 
         //Success
@@ -274,7 +274,7 @@ public class MemberIntegrationTest {
                 .andReturn();
 
         String json = loginResult.getResponse().getContentAsString();
-        return objectMapper.readTree(json).get("data").asText();
+        return objectMapper.readTree(json).get("data").get("token").asText();
     }
 }
 // Resource api integration test convention
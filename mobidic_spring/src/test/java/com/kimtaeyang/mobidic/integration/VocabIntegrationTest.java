@@ -428,7 +428,7 @@ public class VocabIntegrationTest {
                 .andReturn();
 
         String json = loginResult.getResponse().getContentAsString();
-        return objectMapper.readTree(json).get("data").asText();
+        return objectMapper.readTree(json).get("data").get("token").asText();
     }
 }
 // Resource api integration test convention
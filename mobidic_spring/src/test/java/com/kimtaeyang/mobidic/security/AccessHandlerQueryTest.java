@@ -0,0 +1,243 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "auth.owner-cache.pubsub=false"
+})
+@Import({
+        ResourceOwnerCache.class,
+        ResolvedResources.class,
+        AccessHandlerQueryTest.TestConfig.class,
+        VocabAccessHandler.class,
+        WordAccessHandler.class,
+        DefAccessHandler.class,
+        RateAccessHandler.class,
+        MemberAccessHandler.class
+})
+class AccessHandlerQueryTest {
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VocabAccessHandler vocabAccessHandler;
+
+    @Autowired
+    private WordAccessHandler wordAccessHandler;
+
+    @Autowired
+    private DefAccessHandler defAccessHandler;
+
+    @Autowired
+    private RateAccessHandler rateAccessHandler;
+
+    @Autowired
+    private MemberAccessHandler memberAccessHandler;
+
+    @Autowired
+    private ResourceOwnerCache resourceOwnerCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private Member owner;
+    private Vocab vocab;
+    private Word word;
+    private Def def;
+
+    @BeforeEach
+    void setUp() {
+        owner = Member.builder()
+                .email("owner@test.com")
+                .nickname("owner")
+                .password("password")
+                .build();
+        entityManager.persist(owner);
+
+        vocab = Vocab.builder()
+                .member(owner)
+                .title("title")
+                .description("description")
+                .build();
+        entityManager.persist(vocab);
+
+        word = Word.builder()
+                .vocab(vocab)
+                .expression("expression")
+                .build();
+        entityManager.persist(word);
+
+        def = Def.builder()
+                .word(word)
+                .definition("definition")
+                .part(PartOfSpeech.NOUN)
+                .build();
+        entityManager.persist(def);
+
+        entityManager.persist(Rate.builder()
+                .word(word)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("[Security][Access] Ownership check runs one projection query")
+    @Test
+    void ownershipCheckSingleQuery() {
+        authenticateAs(owner.getId());
+
+        assertOneQuery(vocabAccessHandler, vocab.getId(), true);
+        assertOneQuery(wordAccessHandler, word.getId(), true);
+        assertOneQuery(defAccessHandler, def.getId(), true);
+        assertOneQuery(rateAccessHandler, word.getId(), true);
+        assertOneQuery(memberAccessHandler, owner.getId(), true);
+    }
+
+    @DisplayName("[Security][Access] Ownership check rejects other member")
+    @Test
+    void ownershipCheckOtherMember() {
+        authenticateAs(UUID.randomUUID());
+
+        assertOneQuery(vocabAccessHandler, vocab.getId(), false);
+        assertOneQuery(wordAccessHandler, word.getId(), false);
+        assertOneQuery(defAccessHandler, def.getId(), false);
+        assertOneQuery(rateAccessHandler, word.getId(), false);
+
+        //본인이 아닌 회원 id는 쿼리 없이 거부
+        statistics.clear();
+        assertFalse(memberAccessHandler.ownershipCheck(owner.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("[Security][Access] Ownership check rejects missing resource")
+    @Test
+    void ownershipCheckMissingResource() {
+        authenticateAs(owner.getId());
+
+        assertOneQuery(vocabAccessHandler, UUID.randomUUID(), false);
+        assertOneQuery(wordAccessHandler, UUID.randomUUID(), false);
+        assertOneQuery(defAccessHandler, UUID.randomUUID(), false);
+        assertOneQuery(rateAccessHandler, UUID.randomUUID(), false);
+    }
+
+    @DisplayName("[Security][Access] Ownership check hits owner cache")
+    @Test
+    void ownershipCheckCached() {
+        authenticateAs(owner.getId());
+
+        assertOneQuery(wordAccessHandler, word.getId(), true);
+
+        //같은 리소스 재확인 시 쿼리 없음, 학습률은 단어와 id 를 공유
+        statistics.clear();
+        assertTrue(wordAccessHandler.ownershipCheck(word.getId()));
+        assertTrue(rateAccessHandler.ownershipCheck(word.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        resourceOwnerCache.evictMember(owner.getId());
+        statistics.clear();
+        assertTrue(wordAccessHandler.ownershipCheck(word.getId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("[Security][Access] Ownership check resolves once per request")
+    @Test
+    void ownershipCheckResolvedPerRequest() {
+        authenticateAs(owner.getId());
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        //회원 소유권은 공유 캐시 대상이 아니므로 요청 범위 보관 여부만 확인
+        assertOneQuery(memberAccessHandler, owner.getId(), true);
+
+        statistics.clear();
+        assertTrue(memberAccessHandler.ownershipCheck(owner.getId()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1.0, meterRegistry.get("auth.resource.resolve")
+                .tag("result", "avoided").counter().count());
+
+        //다음 요청에서는 다시 조회
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertOneQuery(memberAccessHandler, owner.getId(), true);
+    }
+
+    //캐시를 비운 상태에서 한 번의 projection 쿼리로 판단하는지 확인
+    private void assertOneQuery(AccessHandler handler, UUID resourceId, boolean expected) {
+        resourceOwnerCache.evict(resourceId);
+        statistics.clear();
+
+        boolean result = handler.ownershipCheck(resourceId);
+
+        assertEquals(expected, result);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private void authenticateAs(UUID memberId) {
+        Member principal = Member.builder()
+                .id(memberId)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, null));
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
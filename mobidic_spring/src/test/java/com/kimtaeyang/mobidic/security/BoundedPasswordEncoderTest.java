@@ -0,0 +1,68 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.exception.RetryableApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.AUTH_BUSY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+    @DisplayName("[Security][Hashing] Encode and match on hashing pool")
+    @Test
+    void encodeAndMatchSuccess() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(4), 1, 1, 5000, 1, new SimpleMeterRegistry());
+
+        String encoded = encoder.encode("testTest1");
+
+        assertTrue(encoder.matches("testTest1", encoded));
+        assertFalse(encoder.matches("wrongPassword1", encoded));
+        encoder.shutdown();
+    }
+
+    @DisplayName("[Security][Hashing] Reject fast when queue is full")
+    @Test
+    void rejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                blocking, 1, 0, 5000, 3, new SimpleMeterRegistry());
+
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        caller.submit(() -> encoder.encode("testTest1"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        //when
+        RetryableApiException e = assertThrows(RetryableApiException.class,
+                () -> encoder.encode("testTest2"));
+
+        //then
+        assertEquals(AUTH_BUSY, e.getResponseCode());
+        assertEquals(3, e.getRetryAfterSeconds());
+
+        release.countDown();
+        caller.shutdown();
+        encoder.shutdown();
+    }
+}
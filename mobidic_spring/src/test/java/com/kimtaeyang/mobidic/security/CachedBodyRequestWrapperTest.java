@@ -0,0 +1,48 @@
+package com.kimtaeyang.mobidic.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedBodyRequestWrapperTest {
+    @DisplayName("[Security][Throttle] Cached body can be read through ReadListener")
+    @Test
+    void readWithListener() throws IOException {
+        byte[] body = "{\"email\":\"test@test.com\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new CachedBodyRequestWrapper(new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allDataRead = {false};
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[8];
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(buffer, 0, input.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        assertTrue(allDataRead[0]);
+        assertEquals(new String(body, StandardCharsets.UTF_8), read.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,203 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import com.kimtaeyang.mobidic.type.RevocationStatus;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtBlacklistServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RevocationNearCache revocationNearCache;
+
+    @Mock
+    private MemberTokenEpochCache memberTokenEpochCache;
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    private JwtUtil jwtUtil;
+    private JwtBlacklistService jwtBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        given(jwtProperties.getJwtExp())
+                .willReturn(10000L);
+        given(jwtProperties.getSecretKey())
+                .willReturn(Keys.hmacShaKeyFor(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)));
+
+        jwtUtil = new JwtUtil(jwtProperties);
+        jwtBlacklistService = new JwtBlacklistService(
+                redisTemplate, jwtUtil, revocationNearCache, memberTokenEpochCache, jwtProperties,
+                new SimpleMeterRegistry());
+    }
+
+    @DisplayName("[Security][Blacklist] Near-cache miss skips Redis")
+    @Test
+    void checkRevocationNearCacheMiss() {
+        String token = jwtUtil.generateToken(UUID.randomUUID());
+        Claims claims = jwtUtil.parseClaims(token);
+
+        //given
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(false);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(0L);
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.VALID, status);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("[Security][Blacklist] Revoked member token resolved in one round trip")
+    @Test
+    void checkRevocationMemberRevoked() {
+        UUID memberId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(memberId);
+        Claims claims = jwtUtil.parseClaims(token);
+        long epoch = claims.getIssuedAt().getTime() / 1000 + 1;
+
+        //given
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(true);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(null);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(false, String.valueOf(epoch), null));
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.MEMBER_REVOKED, status);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        verify(memberTokenEpochCache).fill(memberId, epoch);
+    }
+
+    @DisplayName("[Security][Blacklist] Token issued in the same second as epoch is revoked")
+    @Test
+    void checkRevocationSameSecond() {
+        UUID memberId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(memberId);
+        Claims claims = jwtUtil.parseClaims(token);
+        long epoch = claims.getIssuedAt().getTime() / 1000;
+
+        //given
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(false);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(epoch);
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.MEMBER_REVOKED, status);
+    }
+
+    @DisplayName("[Security][Blacklist] Token issued after epoch is valid")
+    @Test
+    void checkRevocationAfterEpoch() {
+        UUID memberId = UUID.randomUUID();
+        String token = jwtUtil.generateToken(memberId);
+        Claims claims = jwtUtil.parseClaims(token);
+        long epoch = claims.getIssuedAt().getTime() / 1000 - 1;
+
+        //given
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(false);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(epoch);
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.VALID, status);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("[Security][Blacklist] Token without jti is checked against legacy logout key")
+    @Test
+    void checkRevocationLegacyLogout() {
+        UUID memberId = UUID.randomUUID();
+        String token = legacyToken(memberId);
+        Claims claims = jwtUtil.parseClaims(token);
+
+        //given
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(false);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(0L);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(true, null, null));
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.LOGGED_OUT, status);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("[Security][Blacklist] Legacy withdraw key revokes member tokens")
+    @Test
+    void checkRevocationLegacyWithdraw() {
+        UUID memberId = UUID.randomUUID();
+        String token = legacyToken(memberId);
+        Claims claims = jwtUtil.parseClaims(token);
+
+        //given : 캐시된 epoch 이 있어도 이전 형식 토큰은 다시 읽는다
+        given(revocationNearCache.mightBeRevoked(anyString()))
+                .willReturn(false);
+        given(memberTokenEpochCache.getIfPresent(any(UUID.class)))
+                .willReturn(0L);
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(false, null, "true"));
+
+        //when
+        RevocationStatus status = jwtBlacklistService.checkRevocation(token, claims);
+
+        //then
+        assertEquals(RevocationStatus.MEMBER_REVOKED, status);
+    }
+
+    //jti 도입 전 배포 이전에 발급된 토큰
+    private String legacyToken(UUID memberId) {
+        return Jwts.builder()
+                .subject(memberId.toString())
+                .issuedAt(new Date(System.currentTimeMillis() - 60000L))
+                .expiration(new Date(System.currentTimeMillis() + jwtProperties.getJwtExp()))
+                .signWith(jwtProperties.getSecretKey())
+                .compact();
+    }
+}
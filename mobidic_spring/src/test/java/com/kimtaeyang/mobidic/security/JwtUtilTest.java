@@ -106,4 +106,22 @@ class JwtUtilTest {
         //then
         assertEquals(uuid, resultId);
     }
+
+    @DisplayName("[Security][JWT] Token has compact jti")
+    @Test
+    void generateTokenJtiSuccess() {
+        //given
+        given(jwtProperties.getJwtExp())
+                .willReturn(testExp);
+        given(jwtProperties.getSecretKey())
+                .willReturn(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)));
+        String token = jwtUtil.generateToken(UUID.randomUUID());
+
+        //when
+        Claims claims = jwtUtil.parseClaims(token);
+
+        //then
+        assertEquals(22, claims.getId().length());
+        assertEquals(claims.getId(), jwtUtil.getRevocationId(token, claims));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtVerifierTest {
+    @Mock
+    private JwtProperties jwtProperties;
+
+    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
+
+    private final String testKey = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        given(jwtProperties.getJwtExp())
+                .willReturn(10000L);
+        given(jwtProperties.getSecretKey())
+                .willReturn(Keys.hmacShaKeyFor(testKey.getBytes(StandardCharsets.UTF_8)));
+        given(jwtProperties.getVerifiedCacheSize())
+                .willReturn(100L);
+
+        jwtUtil = Mockito.spy(new JwtUtil(jwtProperties));
+        jwtVerifier = new JwtVerifier(jwtUtil, jwtProperties);
+    }
+
+    @DisplayName("[Security][JWT] Verify token parses only once")
+    @Test
+    void verifyTokenCachedSuccess() {
+        UUID uid = UUID.randomUUID();
+        String token = jwtUtil.generateToken(uid);
+
+        //when
+        Optional<Claims> first = jwtVerifier.verify(token);
+        Optional<Claims> second = jwtVerifier.verify(token);
+
+        //then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(uid, jwtUtil.getIdFromClaims(second.get()));
+        verify(jwtUtil, times(1)).parseClaims(anyString());
+    }
+
+    @DisplayName("[Security][JWT] Verify token fail")
+    @Test
+    void verifyTokenFail() {
+        String token = jwtUtil.generateToken(UUID.randomUUID()) + "broken";
+
+        //when
+        Optional<Claims> claims = jwtVerifier.verify(token);
+
+        //then
+        assertTrue(claims.isEmpty());
+    }
+}
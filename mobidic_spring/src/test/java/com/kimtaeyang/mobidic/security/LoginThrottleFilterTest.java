@@ -0,0 +1,59 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoginThrottleFilterTest {
+    private final LoginThrottleFilter filter = new LoginThrottleFilter(
+            Mockito.mock(LoginThrottle.class), new ObjectMapper(), 12, List.of("10.0.0.1", "172.16.0.0/12"));
+
+    @DisplayName("[Security][Throttle] X-Forwarded-For from untrusted peer is ignored")
+    @Test
+    void untrustedPeer() {
+        MockHttpServletRequest request = request("203.0.113.9", "198.51.100.1");
+
+        assertEquals("203.0.113.9", filter.resolveClientIp(request));
+    }
+
+    @DisplayName("[Security][Throttle] Client ip is first untrusted hop from the right")
+    @Test
+    void trustedProxyChain() {
+        //클라이언트가 보낸 198.51.100.1 은 무시하고 프록시가 붙인 주소를 사용
+        MockHttpServletRequest request = request("10.0.0.1", "198.51.100.1, 203.0.113.7, 172.16.3.4");
+
+        assertEquals("203.0.113.7", filter.resolveClientIp(request));
+    }
+
+    @DisplayName("[Security][Throttle] Trusted peer without X-Forwarded-For uses remote address")
+    @Test
+    void trustedPeerWithoutHeader() {
+        MockHttpServletRequest request = request("10.0.0.1", null);
+
+        assertEquals("10.0.0.1", filter.resolveClientIp(request));
+    }
+
+    @DisplayName("[Security][Throttle] Trusted proxies are disabled by default")
+    @Test
+    void noTrustedProxies() {
+        LoginThrottleFilter defaultFilter = new LoginThrottleFilter(
+                Mockito.mock(LoginThrottle.class), new ObjectMapper(), 12, List.of());
+
+        assertEquals("10.0.0.1", defaultFilter.resolveClientIp(request("10.0.0.1", "203.0.113.7")));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
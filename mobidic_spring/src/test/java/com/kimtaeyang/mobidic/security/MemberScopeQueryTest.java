@@ -0,0 +1,155 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.entity.Def;
+import com.kimtaeyang.mobidic.entity.Member;
+import com.kimtaeyang.mobidic.entity.Rate;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.repository.DefRepository;
+import com.kimtaeyang.mobidic.repository.RateRepository;
+import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "auth.access.scoped=true"
+})
+@Import(MemberScope.class)
+class MemberScopeQueryTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VocabRepository vocabRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private DefRepository defRepository;
+
+    @Autowired
+    private RateRepository rateRepository;
+
+    @Autowired
+    private MemberScope memberScope;
+
+    private Statistics statistics;
+
+    private Member owner;
+    private Vocab vocab;
+    private Word word;
+    private Def def;
+
+    @BeforeEach
+    void setUp() {
+        owner = Member.builder()
+                .email("owner@test.com")
+                .nickname("owner")
+                .password("password")
+                .build();
+        entityManager.persist(owner);
+
+        vocab = Vocab.builder()
+                .member(owner)
+                .title("title")
+                .description("description")
+                .build();
+        entityManager.persist(vocab);
+
+        word = Word.builder()
+                .vocab(vocab)
+                .expression("expression")
+                .build();
+        entityManager.persist(word);
+
+        def = Def.builder()
+                .word(word)
+                .definition("definition")
+                .part(PartOfSpeech.NOUN)
+                .build();
+        entityManager.persist(def);
+
+        entityManager.persist(Rate.builder()
+                .word(word)
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("[Security][Scope] Scoped find loads owned resource in one query")
+    @Test
+    void scopedFindOwnedResource() {
+        authenticateAs(owner.getId());
+
+        Optional<Vocab> foundVocab = vocabRepository.findById(vocab.getId(), memberScope);
+        Optional<Word> foundWord = wordRepository.findById(word.getId(), memberScope);
+        Optional<Def> foundDef = defRepository.findById(def.getId(), memberScope);
+        Optional<Rate> foundRate = rateRepository.findById(word.getId(), memberScope);
+
+        assertTrue(foundVocab.isPresent());
+        assertTrue(foundWord.isPresent());
+        assertTrue(foundDef.isPresent());
+        assertTrue(foundRate.isPresent());
+        assertEquals(owner.getId(), foundDef.get().getWord().getVocab().getMember().getId());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @DisplayName("[Security][Scope] Other member's resource looks like missing resource")
+    @Test
+    void scopedFindOtherMember() {
+        authenticateAs(UUID.randomUUID());
+
+        assertTrue(vocabRepository.findById(vocab.getId(), memberScope).isEmpty());
+        assertTrue(wordRepository.findById(word.getId(), memberScope).isEmpty());
+        assertTrue(defRepository.findById(def.getId(), memberScope).isEmpty());
+        assertTrue(rateRepository.findById(word.getId(), memberScope).isEmpty());
+
+        authenticateAs(owner.getId());
+
+        assertTrue(vocabRepository.findById(UUID.randomUUID(), memberScope).isEmpty());
+        assertTrue(wordRepository.findById(UUID.randomUUID(), memberScope).isEmpty());
+        assertTrue(defRepository.findById(UUID.randomUUID(), memberScope).isEmpty());
+        assertTrue(rateRepository.findById(UUID.randomUUID(), memberScope).isEmpty());
+    }
+
+    private void authenticateAs(UUID memberId) {
+        Member principal = Member.builder()
+                .id(memberId)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, null));
+    }
+}
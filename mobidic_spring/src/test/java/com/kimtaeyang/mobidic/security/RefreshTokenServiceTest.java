@@ -0,0 +1,85 @@
+package com.kimtaeyang.mobidic.security;
+
+import com.kimtaeyang.mobidic.config.JwtProperties;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.AuthResponseCode.INVALID_TOKEN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private JwtBlacklistService jwtBlacklistService;
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(redisTemplate, jwtBlacklistService, jwtProperties);
+    }
+
+    @DisplayName("[Security][Refresh] Family started in the same second as epoch is revoked")
+    @Test
+    void rotateSameSecond() {
+        UUID memberId = UUID.randomUUID();
+        long issuedAt = System.currentTimeMillis() / 1000;
+
+        //given
+        given(jwtProperties.getRefreshExp())
+                .willReturn(1_209_600_000L);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(memberId + ":" + issuedAt);
+        given(jwtBlacklistService.getMemberEpoch(memberId))
+                .willReturn(issuedAt);
+
+        //when
+        ApiException e = assertThrows(ApiException.class, () -> refreshTokenService.rotate("family.secret"));
+
+        //then
+        assertEquals(INVALID_TOKEN, e.getResponseCode());
+        verify(redisTemplate).delete(RefreshTokenService.REFRESH_PREFIX + "family");
+    }
+
+    @DisplayName("[Security][Refresh] Family started after epoch is rotated")
+    @Test
+    void rotateAfterEpoch() {
+        UUID memberId = UUID.randomUUID();
+        long issuedAt = System.currentTimeMillis() / 1000;
+
+        //given
+        given(jwtProperties.getRefreshExp())
+                .willReturn(1_209_600_000L);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .willReturn(memberId + ":" + issuedAt);
+        given(jwtBlacklistService.getMemberEpoch(memberId))
+                .willReturn(issuedAt - 1);
+
+        //when
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("family.secret");
+
+        //then
+        assertEquals(memberId, rotation.getMemberId());
+        assertEquals("family", rotation.getRefreshToken().getFamilyId());
+    }
+}
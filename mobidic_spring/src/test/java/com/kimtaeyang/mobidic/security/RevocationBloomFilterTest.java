@@ -0,0 +1,44 @@
+package com.kimtaeyang.mobidic.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationBloomFilterTest {
+    @DisplayName("[Security][Blacklist] Bloom filter has no false negative")
+    @Test
+    void mightContainAddedKeys() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10000, 0.01);
+
+        String[] keys = new String[10000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "logout:" + UUID.randomUUID();
+            filter.put(keys[i]);
+        }
+
+        for (String key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @DisplayName("[Security][Blacklist] Bloom filter false positive rate is bounded")
+    @Test
+    void falsePositiveRateBounded() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put("logout:" + UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("logout:" + UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300);
+    }
+}
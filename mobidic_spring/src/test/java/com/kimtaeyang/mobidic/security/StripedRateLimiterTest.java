@@ -0,0 +1,74 @@
+package com.kimtaeyang.mobidic.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @DisplayName("[Security][Throttle] Allow burst then reject")
+    @Test
+    void rejectAfterBurst() {
+        StripedRateLimiter limiter = new StripedRateLimiter(
+                1024, 5, TimeUnit.MINUTES.toNanos(1), clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("test@test.com"));
+        }
+        assertFalse(limiter.tryAcquire("test@test.com"));
+    }
+
+    @DisplayName("[Security][Throttle] Refill over time")
+    @Test
+    void refillAfterInterval() {
+        StripedRateLimiter limiter = new StripedRateLimiter(
+                1024, 5, TimeUnit.MINUTES.toNanos(1), clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("test@test.com");
+        }
+        assertFalse(limiter.tryAcquire("test@test.com"));
+
+        //when : 한 칸이 채워지는 시간(12초) 경과
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        //then
+        assertTrue(limiter.tryAcquire("test@test.com"));
+        assertFalse(limiter.tryAcquire("test@test.com"));
+    }
+
+    @DisplayName("[Security][Throttle] Released token can be acquired again")
+    @Test
+    void releaseToken() {
+        StripedRateLimiter limiter = new StripedRateLimiter(
+                1024, 2, TimeUnit.MINUTES.toNanos(1), clock::get);
+
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertFalse(limiter.tryAcquire("127.0.0.1"));
+
+        limiter.release("127.0.0.1");
+
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertFalse(limiter.tryAcquire("127.0.0.1"));
+    }
+
+    @DisplayName("[Security][Throttle] Email rejection does not consume IP token")
+    @Test
+    void emailRejectionKeepsIpToken() {
+        LocalLoginThrottle throttle = new LocalLoginThrottle(1, 2, TimeUnit.MINUTES.toMillis(1));
+
+        assertTrue(throttle.tryAcquire("test@test.com", "127.0.0.1"));
+        assertFalse(throttle.tryAcquire("test@test.com", "127.0.0.1"));
+
+        //IP bucket 에는 아직 한 칸이 남아 있다
+        assertTrue(throttle.tryAcquire("other@test.com", "127.0.0.1"));
+        assertFalse(throttle.tryAcquire("another@test.com", "127.0.0.1"));
+    }
+}
@@ -7,6 +7,7 @@ import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.security.JwtBlacklistService;
 import com.kimtaeyang.mobidic.security.JwtUtil;
+import com.kimtaeyang.mobidic.security.RefreshTokenService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,6 +54,9 @@ class AuthServiceTest {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     @Test
     @DisplayName("[AuthService] Join success")
     void joinTestSuccess() {
@@ -107,12 +111,17 @@ class AuthServiceTest {
                 .thenReturn(mockAuth);
         Mockito.when(mockAuth.getPrincipal())
                 .thenReturn(principal);
+        Mockito.when(refreshTokenService.issue(principal.getId()))
+                .thenReturn(new RefreshTokenService.RefreshToken("family", "family.secret"));
 
         // when
-        String token = authService.login(request);
+        LoginDto.Response response = authService.login(request);
+        String token = response.getToken();
 
         // then
         assertEquals(principal.getId(), jwtUtil.getIdFromToken(token));
+        assertEquals("family", jwtUtil.getFamilyIdFromClaims(jwtUtil.parseClaims(token)));
+        assertEquals("family.secret", response.getRefreshToken());
         assertThat(jwtUtil.validateToken(token));
     }
 
@@ -166,6 +175,11 @@ class AuthServiceTest {
             return Mockito.mock(JwtBlacklistService.class);
         }
 
+        @Bean
+        public RefreshTokenService refreshTokenService() {
+            return Mockito.mock(RefreshTokenService.class);
+        }
+
         @Bean
         public AuthenticationManager authenticationManager() {
             return Mockito.mock(AuthenticationManager.class);
@@ -0,0 +1,297 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.BatchDto;
+import com.kimtaeyang.mobidic.dto.SyncDto;
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.exception.RetryableApiException;
+import com.kimtaeyang.mobidic.repository.BatchResultRepository;
+import com.kimtaeyang.mobidic.repository.DefRepository;
+import com.kimtaeyang.mobidic.repository.RateRepository;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.BatchOperation;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.DUPLICATED_DEFINITION;
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.DUPLICATED_WORD;
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.NO_DEF;
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.NO_WORD;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({
+        BatchService.class,
+        SyncService.class,
+        WordBatchWriter.class,
+        BatchServiceTest.TestConfig.class
+})
+class BatchServiceTest {
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private WordSearchIndex wordSearchIndex;
+
+    @MockitoBean
+    private ResourceOwnerCache resourceOwnerCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BatchService batchService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private BatchResultRepository batchResultRepository;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private DefRepository defRepository;
+
+    @Autowired
+    private RateRepository rateRepository;
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+
+    private Member member;
+    private Vocab vocab;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        member = persistMember("test");
+        vocab = persistVocab(member, "title");
+    }
+
+    @Test
+    @DisplayName("[BatchService] Apply batch resolves client refs and reports each operation")
+    void applyBatch() {
+        Word existing = persistWord(vocab, "existing");
+        Word other = persistWord(persistVocab(persistMember("other"), "other"), "other");
+
+        BatchDto.Request request = request(
+                operation(BatchOperation.ADD_WORD).ref("w1").vocabId(vocab.getId()).expression("apple").build(),
+                operation(BatchOperation.ADD_DEF).ref("d1").wordRef("w1").definition("사과").part(PartOfSpeech.NOUN).build(),
+                operation(BatchOperation.TOGGLE_RATE).wordRef("w1").build(),
+                operation(BatchOperation.ADD_WORD).vocabId(vocab.getId()).expression("existing").build(),
+                operation(BatchOperation.UPDATE_WORD).wordId(existing.getId()).expression("renamed").build(),
+                operation(BatchOperation.TOGGLE_RATE).wordId(other.getId()).build());
+
+        BatchDto.Response response = batchService.applyBatch(member.getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<BatchDto.Result> results = response.getResults();
+        assertEquals(List.of(true, true, true, false, true, false),
+                results.stream().map(BatchDto.Result::isSuccess).toList());
+        assertEquals(DUPLICATED_WORD.name(), results.get(3).getCode());
+        assertEquals(NO_WORD.name(), results.get(5).getCode());
+
+        UUID wordId = results.get(0).getId();
+        assertEquals("apple", wordRepository.findById(wordId).orElseThrow().getExpression());
+        assertEquals(wordId, defRepository.findById(results.get(1).getId()).orElseThrow().getWord().getId());
+        assertEquals(1, rateRepository.findById(wordId).orElseThrow().getIsLearned());
+        assertEquals("renamed", wordRepository.findById(existing.getId()).orElseThrow().getExpression());
+        assertEquals(0, rateRepository.findById(other.getId()).orElseThrow().getIsLearned());
+
+        //변경 번호는 리소스당 하나씩, 결과는 재전송 대비 저장
+        SyncDto.Response changes = syncService.getChanges(member.getId(), 0, 10);
+        assertEquals(3, changes.getRevision());
+        assertEquals(2, changes.getWords().size());
+        assertEquals(1, changes.getDefs().size());
+        assertTrue(batchResultRepository.existsById(new BatchResult.Key(member.getId(), request.getBatchId())));
+        verify(redisTemplate).delete(BatchService.KEY_PREFIX + member.getId() + ":" + request.getBatchId());
+    }
+
+    @Test
+    @DisplayName("[BatchService] Operations on children of a word deleted earlier in the batch fail")
+    void applyBatchAfterDeleteWord() {
+        Word word = persistWord(vocab, "apple");
+        Def def = Def.builder()
+                .word(word)
+                .definition("사과")
+                .part(PartOfSpeech.NOUN)
+                .build();
+        entityManager.persist(def);
+        entityManager.flush();
+        entityManager.clear();
+
+        BatchDto.Response response = batchService.applyBatch(member.getId(), request(
+                operation(BatchOperation.DELETE_WORD).wordId(word.getId()).build(),
+                operation(BatchOperation.UPDATE_DEF).defId(def.getId()).definition("배").part(PartOfSpeech.NOUN).build(),
+                operation(BatchOperation.TOGGLE_RATE).wordId(word.getId()).build()));
+
+        List<BatchDto.Result> results = response.getResults();
+        assertEquals(List.of(true, false, false), results.stream().map(BatchDto.Result::isSuccess).toList());
+        assertEquals(NO_DEF.name(), results.get(1).getCode());
+        assertEquals(NO_WORD.name(), results.get(2).getCode());
+    }
+
+    @Test
+    @DisplayName("[BatchService] Case variants of expression and definition are reported as duplicates")
+    void applyBatchCaseVariant() {
+        BatchDto.Response response = batchService.applyBatch(member.getId(), request(
+                operation(BatchOperation.ADD_WORD).ref("w1").vocabId(vocab.getId()).expression("Apple").build(),
+                operation(BatchOperation.ADD_WORD).vocabId(vocab.getId()).expression("apple").build(),
+                operation(BatchOperation.ADD_DEF).wordRef("w1").definition("Fruit").part(PartOfSpeech.NOUN).build(),
+                operation(BatchOperation.ADD_DEF).wordRef("w1").definition("fruit").part(PartOfSpeech.NOUN).build()));
+        entityManager.flush();
+
+        List<BatchDto.Result> results = response.getResults();
+        assertEquals(List.of(true, false, true, false), results.stream().map(BatchDto.Result::isSuccess).toList());
+        assertEquals(DUPLICATED_WORD.name(), results.get(1).getCode());
+        assertEquals(DUPLICATED_DEFINITION.name(), results.get(3).getCode());
+    }
+
+    @Test
+    @DisplayName("[BatchService] Apply batch runs same number of statements regardless of size")
+    void applyBatchStatementCount() {
+        long smallCount = countStatements(10);
+        long largeCount = countStatements(40);
+
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    @DisplayName("[BatchService] Resubmitted batch returns stored result without applying")
+    void applyBatchReplayed() {
+        BatchDto.Request request = request(
+                operation(BatchOperation.ADD_WORD).vocabId(vocab.getId()).expression("apple").build());
+
+        BatchDto.Response applied = batchService.applyBatch(member.getId(), request);
+        //잠금이 남아 있어도 저장된 결과를 먼저 돌려준다
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+        BatchDto.Response response = batchService.applyBatch(member.getId(), request);
+
+        assertFalse(applied.isReplayed());
+        assertTrue(response.isReplayed());
+        assertEquals(applied.getResults(), response.getResults());
+        assertTrue(wordRepository.findByExpression("apple").isPresent());
+
+        //결과가 없는데 잠금이 잡혀 있으면 처리 중이므로 재시도 요청
+        assertThrows(RetryableApiException.class, () -> batchService.applyBatch(member.getId(),
+                request(operation(BatchOperation.ADD_WORD).vocabId(vocab.getId()).expression("banana").build())));
+        assertTrue(wordRepository.findByExpression("banana").isEmpty());
+        verify(redisTemplate, times(1)).delete(anyString());
+    }
+
+    //단어 추가, 뜻 추가, 학습 여부 변경을 size 번씩 적용
+    private long countStatements(int size) {
+        Vocab target = persistVocab(member, "vocab" + size);
+        List<BatchDto.Operation> operations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String ref = "w" + i;
+            operations.add(operation(BatchOperation.ADD_WORD).ref(ref)
+                    .vocabId(target.getId()).expression("word" + size + "-" + i).build());
+            operations.add(operation(BatchOperation.ADD_DEF).wordRef(ref)
+                    .definition("def" + size + "-" + i).part(PartOfSpeech.NOUN).build());
+            operations.add(operation(BatchOperation.TOGGLE_RATE).wordRef(ref).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BatchDto.Response response = batchService.applyBatch(member.getId(),
+                new BatchDto.Request(UUID.randomUUID(), operations));
+        entityManager.flush();
+
+        assertTrue(response.getResults().stream().allMatch(BatchDto.Result::isSuccess));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private BatchDto.Request request(BatchDto.Operation... operations) {
+        return new BatchDto.Request(UUID.randomUUID(), List.of(operations));
+    }
+
+    private BatchDto.Operation.OperationBuilder operation(BatchOperation type) {
+        return BatchDto.Operation.builder().type(type);
+    }
+
+    private Member persistMember(String nickname) {
+        Member saved = Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("password")
+                .build();
+        entityManager.persist(saved);
+
+        return saved;
+    }
+
+    private Vocab persistVocab(Member owner, String title) {
+        Vocab saved = Vocab.builder()
+                .member(owner)
+                .title(title)
+                .build();
+        entityManager.persist(saved);
+
+        return saved;
+    }
+
+    private Word persistWord(Vocab target, String expression) {
+        Word word = Word.builder()
+                .vocab(target)
+                .expression(expression)
+                .build();
+        entityManager.persist(word);
+        entityManager.persist(Rate.builder()
+                .word(word)
+                .build());
+
+        return word;
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -6,10 +6,13 @@ import com.kimtaeyang.mobidic.entity.Def;
 import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.repository.DefRepository;
 import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
 import com.kimtaeyang.mobidic.type.PartOfSpeech;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -96,8 +99,9 @@ class DefServiceTest {
         //given
         given(wordRepository.findById(any(UUID.class)))
                 .willReturn(Optional.of(Mockito.mock(Word.class)));
-        given(defRepository.findByWord(any(Word.class)))
-                .willReturn(defs);
+        List<DefDto> defDtos = defs.stream().map(DefDto::fromEntity).toList();
+        given(defRepository.findDtosByWordId(any()))
+                .willReturn(defDtos);
 
         //when
         List<DefDto> response = defService.getDefsByWordId(UUID.randomUUID());
@@ -158,14 +162,29 @@ class DefServiceTest {
 
     @TestConfiguration
     static class TestConfig {
+        @Bean
+        public SyncService syncService() {
+            return Mockito.mock(SyncService.class);
+        }
+
         @Bean
         public DefRepository defRepository() {
-            return Mockito.mock(DefRepository.class);
+            return Mockito.mock(DefRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
         public WordRepository wordRepository() {
-            return Mockito.mock(WordRepository.class);
+            return Mockito.mock(WordRepository.class, Answers.CALLS_REAL_METHODS);
+        }
+
+        @Bean
+        public ResourceOwnerCache resourceOwnerCache() {
+            return Mockito.mock(ResourceOwnerCache.class);
+        }
+
+        @Bean
+        public MemberScope memberScope() {
+            return new MemberScope(false);
         }
     }
 
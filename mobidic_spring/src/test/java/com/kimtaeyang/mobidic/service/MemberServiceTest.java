@@ -7,6 +7,7 @@ import com.kimtaeyang.mobidic.dto.UpdatePasswordDto;
 import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.security.JwtBlacklistService;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -169,6 +170,11 @@ class MemberServiceTest {
 
     @TestConfiguration
     static class TestConfig {
+        @Bean
+        public SyncService syncService() {
+            return Mockito.mock(SyncService.class);
+        }
+
         @Bean
         public MemberRepository memberRepository() {
             return Mockito.mock(MemberRepository.class);
@@ -188,6 +194,16 @@ class MemberServiceTest {
         public AuthService authService() {
             return Mockito.mock(AuthService.class);
         }
+
+        @Bean
+        public ResourceOwnerCache resourceOwnerCache() {
+            return Mockito.mock(ResourceOwnerCache.class);
+        }
+
+        @Bean
+        public WordSearchIndex wordSearchIndex() {
+            return Mockito.mock(WordSearchIndex.class);
+        }
     }
 
     private void resetMock() {
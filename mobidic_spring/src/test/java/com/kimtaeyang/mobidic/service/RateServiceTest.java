@@ -4,10 +4,12 @@ import com.kimtaeyang.mobidic.dto.RateDto;
 import com.kimtaeyang.mobidic.entity.Rate;
 import com.kimtaeyang.mobidic.entity.Word;
 import com.kimtaeyang.mobidic.repository.RateRepository;
-import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,9 +31,6 @@ class RateServiceTest {
     @Autowired
     private RateRepository rateRepository;
 
-    @Autowired
-    private WordRepository wordRepository;
-
     @Autowired
     private RateService rateService;
 
@@ -51,9 +50,7 @@ class RateServiceTest {
                 .build();
 
         //given
-        given(wordRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(Mockito.mock(Word.class)));
-        given(rateRepository.findRateByWord(any(Word.class)))
+        given(rateRepository.findById(any(UUID.class)))
                 .willReturn(Optional.of(defaultRate));
 
         //when
@@ -104,9 +101,7 @@ class RateServiceTest {
                 ArgumentCaptor.forClass(Rate.class);
 
         //given
-        given(wordRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(Mockito.mock(Word.class)));
-        given(rateRepository.findRateByWord(any(Word.class)))
+        given(rateRepository.findById(any(UUID.class)))
                 .willReturn(Optional.of(defaultRate));
         given(rateRepository.save(any(Rate.class)))
                 .willReturn(Mockito.mock(Rate.class));
@@ -125,18 +120,28 @@ class RateServiceTest {
 
     @TestConfiguration
     static class TestConfig {
+        @Bean
+        public ResourceOwnerCache resourceOwnerCache() {
+            return Mockito.mock(ResourceOwnerCache.class);
+        }
+
+        @Bean
+        public SyncService syncService() {
+            return Mockito.mock(SyncService.class);
+        }
+
         @Bean
         public RateRepository rateRepository() {
-            return Mockito.mock(RateRepository.class);
+            return Mockito.mock(RateRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
-        public WordRepository wordRepository() {
-            return Mockito.mock(WordRepository.class);
+        public MemberScope memberScope() {
+            return new MemberScope(false);
         }
     }
 
     private void resetMock() {
-        Mockito.reset(rateRepository, wordRepository);
+        Mockito.reset(rateRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.entity.Member;
+import com.kimtaeyang.mobidic.entity.Rate;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.SyncType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RevisionService.class, SyncService.class, WordBatchWriter.class, MemberScope.class})
+class RevisionServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private SyncService syncService;
+
+    private Member member;
+    private Vocab vocab;
+    private Vocab otherVocab;
+    private Word word;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        vocab = persistVocab("title");
+        otherVocab = persistVocab("other");
+
+        word = Word.builder()
+                .vocab(vocab)
+                .expression("word")
+                .build();
+        entityManager.persist(word);
+        entityManager.persist(Rate.builder()
+                .word(word)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("[RevisionService] ETag changes only for the vocab whose content changed")
+    void getETagAfterChange() {
+        String memberETag = revisionService.getMemberETag(member.getId()).orElseThrow();
+        String vocabETag = revisionService.getVocabETag(vocab.getId()).orElseThrow();
+        String otherETag = revisionService.getVocabETag(otherVocab.getId()).orElseThrow();
+
+        syncService.recordUpsert(member.getId(), SyncType.WORD, word.getId(), vocab.getId());
+        entityManager.clear();
+
+        assertNotEquals(memberETag, revisionService.getMemberETag(member.getId()).orElseThrow());
+        assertNotEquals(vocabETag, revisionService.getVocabETag(vocab.getId()).orElseThrow());
+        assertEquals(otherETag, revisionService.getVocabETag(otherVocab.getId()).orElseThrow());
+        //단어 ETag 는 단어장 revision 을 따른다
+        assertEquals(revisionService.getVocabETag(vocab.getId()),
+                revisionService.getWordETag(word.getId()));
+
+        //대량 등록도 단어장 revision 을 올린다
+        String importedETag = revisionService.getVocabETag(vocab.getId()).orElseThrow();
+        syncService.recordInserts(member.getId(), vocab.getId(), Map.of(SyncType.WORD, List.of(UUID.randomUUID())));
+        entityManager.clear();
+
+        assertNotEquals(importedETag, revisionService.getVocabETag(vocab.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("[RevisionService] ETag lookup runs a single statement without loading entities")
+    void getETagSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        assertTrue(revisionService.getVocabETag(vocab.getId()).isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.clear();
+        assertTrue(revisionService.getWordETag(word.getId()).isPresent());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        //없는 리소스는 ETag 없이 원래 조회로 넘긴다
+        assertEquals(Optional.empty(), revisionService.getWordETag(UUID.randomUUID()));
+    }
+
+    private Vocab persistVocab(String title) {
+        Vocab saved = Vocab.builder()
+                .member(member)
+                .title(title)
+                .build();
+        entityManager.persist(saved);
+
+        return saved;
+    }
+}
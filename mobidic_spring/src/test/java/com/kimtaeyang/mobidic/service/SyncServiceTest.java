@@ -0,0 +1,162 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.SyncDto;
+import com.kimtaeyang.mobidic.dto.VocabDto;
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import com.kimtaeyang.mobidic.type.SyncType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({SyncService.class, WordBatchWriter.class})
+class SyncServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SyncService syncService;
+
+    private Member member;
+    private Vocab vocab;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        vocab = Vocab.builder()
+                .member(member)
+                .title("title")
+                .build();
+        entityManager.persist(vocab);
+    }
+
+    @Test
+    @DisplayName("[SyncService] Get changes returns only changes after since")
+    void getChangesSince() {
+        Word word = persistWord("word");
+        Def def = persistDef(word, "definition");
+
+        syncService.recordUpsert(member.getId(), SyncType.VOCAB, vocab.getId(), vocab.getId());
+        syncService.recordUpsert(member.getId(), SyncType.WORD, word.getId(), vocab.getId());
+        syncService.recordUpsert(member.getId(), SyncType.DEF, def.getId(), vocab.getId());
+
+        SyncDto.Response first = syncService.getChanges(member.getId(), 0, 10);
+
+        assertEquals(3, first.getRevision());
+        assertFalse(first.isHasNext());
+        assertEquals(List.of(vocab.getId()), first.getVocabs().stream().map(VocabDto::getId).toList());
+        assertEquals(List.of(word.getId()), first.getWords().stream().map(SyncDto.Word::getId).toList());
+        assertEquals(List.of(def.getId()), first.getDefs().stream().map(DefDto::getId).toList());
+
+        //같은 리소스를 다시 바꾸면 기록은 하나로 유지되고 번호만 올라간다
+        syncService.recordUpsert(member.getId(), SyncType.WORD, word.getId(), vocab.getId());
+        SyncDto.Response second = syncService.getChanges(member.getId(), first.getRevision(), 10);
+
+        assertEquals(4, second.getRevision());
+        assertTrue(second.getVocabs().isEmpty());
+        assertEquals(List.of(word.getId()), second.getWords().stream().map(SyncDto.Word::getId).toList());
+        assertTrue(second.getDefs().isEmpty());
+        assertEquals(1, syncService.getChanges(member.getId(), 0, 10).getWords().size());
+
+        SyncDto.Response none = syncService.getChanges(member.getId(), second.getRevision(), 10);
+        assertEquals(second.getRevision(), none.getRevision());
+        assertTrue(none.getWords().isEmpty());
+    }
+
+    @Test
+    @DisplayName("[SyncService] Deleted resources come back as tombstones")
+    void getChangesTombstones() {
+        Word word = persistWord("word");
+        Def def = persistDef(word, "definition");
+
+        syncService.recordUpsert(member.getId(), SyncType.VOCAB, vocab.getId(), vocab.getId());
+        syncService.recordUpsert(member.getId(), SyncType.WORD, word.getId(), vocab.getId());
+        syncService.recordUpsert(member.getId(), SyncType.DEF, def.getId(), vocab.getId());
+        long revision = syncService.getChanges(member.getId(), 0, 10).getRevision();
+
+        syncService.recordDelete(member.getId(), SyncType.DEF, def.getId(), vocab.getId());
+        SyncDto.Response deleted = syncService.getChanges(member.getId(), revision, 10);
+
+        assertTrue(deleted.getDefs().isEmpty());
+        assertEquals(List.of(def.getId()), deleted.getDeletedDefIds());
+
+        //단어장 삭제 시 하위 리소스 기록은 정리되고 단어장 tombstone 만 남는다
+        syncService.recordDelete(member.getId(), SyncType.VOCAB, vocab.getId(), vocab.getId());
+        SyncDto.Response all = syncService.getChanges(member.getId(), 0, 10);
+
+        assertEquals(List.of(vocab.getId()), all.getDeletedVocabIds());
+        assertTrue(all.getVocabs().isEmpty());
+        assertTrue(all.getWords().isEmpty());
+        assertTrue(all.getDefs().isEmpty());
+        assertTrue(all.getDeletedDefIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("[SyncService] Bulk inserts are paged in revision order")
+    void getChangesPaged() {
+        List<UUID> wordIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            wordIds.add(persistWord("word" + i).getId());
+        }
+        entityManager.flush();
+
+        syncService.recordInserts(member.getId(), vocab.getId(), Map.of(SyncType.WORD, wordIds));
+
+        List<UUID> synced = new ArrayList<>();
+        long since = 0;
+        SyncDto.Response response;
+        do {
+            response = syncService.getChanges(member.getId(), since, 2);
+            response.getWords().forEach((word) -> synced.add(word.getId()));
+            since = response.getRevision();
+        } while (response.isHasNext());
+
+        assertEquals(5, since);
+        assertEquals(wordIds.size(), synced.size());
+        assertTrue(synced.containsAll(wordIds));
+    }
+
+    private Word persistWord(String expression) {
+        Word word = Word.builder()
+                .vocab(vocab)
+                .expression(expression)
+                .build();
+        entityManager.persist(word);
+        entityManager.persist(Rate.builder()
+                .word(word)
+                .build());
+
+        return word;
+    }
+
+    private Def persistDef(Word word, String definition) {
+        Def def = Def.builder()
+                .word(word)
+                .definition(definition)
+                .part(PartOfSpeech.NOUN)
+                .build();
+        entityManager.persist(def);
+
+        return def;
+    }
+}
@@ -1,29 +1,39 @@
 package com.kimtaeyang.mobidic.service;
 
 import com.kimtaeyang.mobidic.dto.AddVocabDto;
+import com.kimtaeyang.mobidic.dto.CursorPageDto;
+import com.kimtaeyang.mobidic.dto.PageCursor;
 import com.kimtaeyang.mobidic.dto.UpdateVocabDto;
 import com.kimtaeyang.mobidic.dto.VocabDto;
 import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.repository.MemberRepository;
 import com.kimtaeyang.mobidic.repository.VocabRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.VocabField;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.data.domain.Limit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -37,6 +47,9 @@ class VocabServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private ResourceOwnerCache resourceOwnerCache;
+
     @Autowired
     private VocabService vocabService;
 
@@ -99,7 +112,7 @@ class VocabServiceTest {
                 .willReturn(vocabs);
 
         //when
-        List<VocabDto> response = vocabService.getVocabsByMemberId(UUID.randomUUID());
+        List<VocabDto> response = vocabService.getVocabsByMemberId(UUID.randomUUID(), EnumSet.allOf(VocabField.class));
 
         //then
         assertEquals(vocabs.getFirst().getMember().getId(), response.getFirst().getMemberId());
@@ -126,7 +139,7 @@ class VocabServiceTest {
                 .willReturn(Optional.of(defaultVocab));
 
         //when
-        VocabDto response = vocabService.getVocabById(vocabId);
+        VocabDto response = vocabService.getVocabById(vocabId, EnumSet.allOf(VocabField.class));
 
         //then
         assertEquals(vocabId, response.getId());
@@ -182,20 +195,105 @@ class VocabServiceTest {
         assertEquals(request.getDescription(), response.getDescription());
     }
 
+    @Test
+    @DisplayName("[VocabService] Get vocab page success")
+    void getVocabPageSuccess() {
+        resetMock();
+
+        Member member = Member.builder()
+                .id(UUID.randomUUID())
+                .build();
+        List<Vocab> vocabs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            vocabs.add(Vocab.builder()
+                    .id(UUID.randomUUID())
+                    .member(member)
+                    .title("title" + i)
+                    .createdAt(new Timestamp(System.currentTimeMillis()))
+                    .build());
+        }
+
+        //given
+        given(vocabRepository.findPageByMemberId(any(UUID.class), any(Limit.class)))
+                .willReturn(vocabs);
+
+        //when
+        CursorPageDto<VocabDto> response =
+                vocabService.getVocabPageByMemberId(member.getId(), null, 2, EnumSet.allOf(VocabField.class));
+
+        //then
+        verify(vocabRepository, times(1))
+                .findPageByMemberId(member.getId(), Limit.of(3));
+        assertEquals(2, response.getItems().size());
+        assertTrue(response.isHasNext());
+
+        PageCursor cursor = PageCursor.decode(response.getNextCursor());
+        assertEquals(vocabs.get(1).getId(), cursor.getId());
+        assertEquals(vocabs.get(1).getCreatedAt(), cursor.getTimestampKey());
+    }
+
+    @Test
+    @DisplayName("[VocabService] Delete vocab evicts owner cache")
+    void deleteVocabSuccess() {
+        resetMock();
+
+        UUID vocabId = UUID.randomUUID();
+        Vocab defaultVocab = Vocab.builder()
+                .id(vocabId)
+                .member(Mockito.mock(Member.class))
+                .title("title")
+                .description("description")
+                .build();
+
+        //given
+        given(vocabRepository.findById(any(UUID.class)))
+                .willReturn(Optional.of(defaultVocab));
+
+        //when
+        VocabDto response = vocabService.deleteVocab(vocabId);
+
+        //then
+        verify(vocabRepository, times(1))
+                .delete(defaultVocab);
+        verify(resourceOwnerCache, times(1))
+                .evict(vocabId);
+        assertEquals(vocabId, response.getId());
+    }
+
     @TestConfiguration
     static class TestConfig {
+        @Bean
+        public SyncService syncService() {
+            return Mockito.mock(SyncService.class);
+        }
+
         @Bean
         public VocabRepository vocabRepository() {
-            return Mockito.mock(VocabRepository.class);
+            return Mockito.mock(VocabRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
         public MemberRepository memberRepository() {
             return Mockito.mock(MemberRepository.class);
         }
+
+        @Bean
+        public ResourceOwnerCache resourceOwnerCache() {
+            return Mockito.mock(ResourceOwnerCache.class);
+        }
+
+        @Bean
+        public WordSearchIndex wordSearchIndex() {
+            return Mockito.mock(WordSearchIndex.class);
+        }
+
+        @Bean
+        public MemberScope memberScope() {
+            return new MemberScope(false);
+        }
     }
 
     private void resetMock(){
-        Mockito.reset(vocabRepository, memberRepository);
+        Mockito.reset(vocabRepository, memberRepository, resourceOwnerCache);
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.dto.WordExportDto;
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.exception.ApiException;
+import com.kimtaeyang.mobidic.repository.WordExportReader;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.NO_VOCAB;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "word.export.chunk-size=2")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({WordExportService.class, WordExportReader.class, MemberScope.class})
+class WordExportServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WordExportService wordExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Vocab vocab;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        vocab = Vocab.builder()
+                .member(member)
+                .title("title")
+                .build();
+        entityManager.persist(vocab);
+
+        for (int i = 0; i < 5; i++) {
+            Word word = Word.builder()
+                    .vocab(vocab)
+                    .expression("word, " + i)
+                    .build();
+            entityManager.persist(word);
+            entityManager.persist(Rate.builder()
+                    .word(word)
+                    .correctCount(i)
+                    .build());
+
+            //마지막 단어는 뜻 없이 저장
+            for (int j = 0; j < (i == 4 ? 0 : 2); j++) {
+                entityManager.persist(Def.builder()
+                        .word(word)
+                        .definition("\"def\" " + i + "-" + j)
+                        .part(PartOfSpeech.NOUN)
+                        .build());
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("[WordExport] Export NDJSON writes one word per line")
+    void exportNdjson() throws IOException {
+        List<String> lines = export(FileFormat.NDJSON);
+
+        assertEquals(5, lines.size());
+        List<WordExportDto.Row> rows = new ArrayList<>();
+        for (String line : lines) {
+            rows.add(objectMapper.readValue(line, WordExportDto.Row.class));
+        }
+
+        assertEquals(List.of("word, 0", "word, 1", "word, 2", "word, 3", "word, 4"),
+                rows.stream().map(WordExportDto.Row::getExpression).sorted().toList());
+        rows.forEach((row) -> assertEquals(
+                row.getExpression().endsWith("4") ? 0 : 2, row.getDefs().size()));
+        assertEquals(10, rows.stream().mapToInt(WordExportDto.Row::getCorrectCount).sum());
+    }
+
+    @Test
+    @DisplayName("[WordExport] Export CSV can be read back by import")
+    void exportCsvRoundTrip() throws IOException {
+        List<String> lines = export(FileFormat.CSV);
+
+        //헤더 + 뜻 8개 + 뜻 없는 단어 1개
+        assertEquals(10, lines.size());
+
+        WordImportReader reader = new WordImportReader(
+                new BufferedReader(new StringReader(String.join("\n", lines))), FileFormat.CSV, objectMapper);
+        List<WordImportReader.Entry> entries = new ArrayList<>();
+        WordImportReader.Entry entry;
+        while ((entry = reader.next()) != null) {
+            entries.add(entry);
+        }
+
+        assertEquals(5, entries.size());
+        entries.forEach((e) -> assertNull(e.getError()));
+        assertTrue(entries.stream()
+                .flatMap((e) -> e.getRow().getDefs().stream())
+                .anyMatch((def) -> def.getDefinition().equals("\"def\" 0-1")));
+    }
+
+    @Test
+    @DisplayName("[WordExport] Export fails before streaming when vocab is missing")
+    void exportNoVocab() {
+        ApiException e = assertThrows(ApiException.class,
+                () -> wordExportService.exportWords(UUID.randomUUID(), FileFormat.CSV));
+
+        assertEquals(NO_VOCAB, e.getResponseCode());
+    }
+
+    private List<String> export(FileFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        wordExportService.exportWords(vocab.getId(), format).writeTo(outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
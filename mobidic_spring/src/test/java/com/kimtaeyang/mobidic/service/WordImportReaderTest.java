@@ -0,0 +1,84 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordImportReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("[WordImport] Read CSV groups consecutive rows of same expression")
+    void readCsv() throws IOException {
+        List<WordImportReader.Entry> entries = readAll(FileFormat.CSV,
+                "\uFEFFexpression,part,definition\n"
+                        + "apple,noun,사과\n"
+                        + "apple,verb,\"사과, 하다\"\n"
+                        + "\n"
+                        + "banana,noun,바나나\n"
+                        + "cherry\n"
+                        + "durian,xyz,두리안\n"
+                        + "\"egg,noun,달걀\n");
+
+        assertEquals(5, entries.size());
+
+        WordImportReader.Entry apple = entries.get(0);
+        assertEquals(2, apple.getLine());
+        assertNull(apple.getError());
+        assertEquals("apple", apple.getRow().getExpression());
+        assertEquals(2, apple.getRow().getDefs().size());
+        assertEquals(PartOfSpeech.VERB, apple.getRow().getDefs().get(1).getPart());
+        assertEquals("사과, 하다", apple.getRow().getDefs().get(1).getDefinition());
+
+        assertEquals("banana", entries.get(1).getRow().getExpression());
+        assertEquals(5, entries.get(1).getLine());
+
+        //뜻 없이 표현만 있는 행
+        assertNull(entries.get(2).getError());
+        assertTrue(entries.get(2).getRow().getDefs().isEmpty());
+
+        assertEquals("Invalid part of speech", entries.get(3).getError());
+        assertEquals("Invalid CSV row", entries.get(4).getError());
+    }
+
+    @Test
+    @DisplayName("[WordImport] Read NDJSON one word per line")
+    void readNdjson() throws IOException {
+        List<WordImportReader.Entry> entries = readAll(FileFormat.NDJSON,
+                "{\"expression\":\"apple\",\"defs\":[{\"definition\":\"사과\",\"part\":\"NOUN\"}]}\n"
+                        + "\n"
+                        + "{\"expression\":\"banana\"\n"
+                        + "{\"expression\":\"cherry\",\"defs\":[]}\n");
+
+        assertEquals(3, entries.size());
+        assertEquals("apple", entries.get(0).getRow().getExpression());
+        assertEquals(PartOfSpeech.NOUN, entries.get(0).getRow().getDefs().getFirst().getPart());
+        assertEquals("Invalid JSON", entries.get(1).getError());
+        assertEquals(3, entries.get(1).getLine());
+        assertEquals("cherry", entries.get(2).getRow().getExpression());
+        assertEquals(4, entries.get(2).getLine());
+    }
+
+    private List<WordImportReader.Entry> readAll(FileFormat format, String body) throws IOException {
+        WordImportReader reader = new WordImportReader(
+                new BufferedReader(new StringReader(body)), format, objectMapper);
+
+        List<WordImportReader.Entry> entries = new ArrayList<>();
+        WordImportReader.Entry entry;
+        while ((entry = reader.next()) != null) {
+            entries.add(entry);
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,238 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.WordImportDto;
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.repository.DefRepository;
+import com.kimtaeyang.mobidic.repository.RateRepository;
+import com.kimtaeyang.mobidic.repository.WordBatchWriter;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.FileFormat;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.DUPLICATED_DEFINITION;
+import static com.kimtaeyang.mobidic.code.GeneralResponseCode.DUPLICATED_WORD;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "word.import.chunk-size=2")
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Import({
+        WordImportService.class,
+        WordBatchWriter.class,
+        SyncService.class,
+        MemberScope.class,
+        WordSearchIndex.class,
+        WordImportServiceTest.TestConfig.class
+})
+class WordImportServiceTest {
+    @MockitoBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private WordSearchIndex wordSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WordImportService wordImportService;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private DefRepository defRepository;
+
+    @Autowired
+    private RateRepository rateRepository;
+
+    @Test
+    @DisplayName("[WordImport] Import CSV saves valid rows and reports the rest")
+    void importCsv() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = Vocab.builder()
+                .member(member)
+                .title("title")
+                .build();
+        entityManager.persist(vocab);
+
+        Word existing = Word.builder()
+                .vocab(vocab)
+                .expression("exists")
+                .build();
+        entityManager.persist(existing);
+        entityManager.persist(Def.builder()
+                .word(existing)
+                .definition("taken")
+                .part(PartOfSpeech.NOUN)
+                .build());
+        entityManager.flush();
+
+        String body = "expression,part,definition\n"
+                + "apple,noun,사과\n"
+                + "apple,verb,사과하다\n"
+                + "banana,noun,바나나\n"
+                + "exists,noun,있음\n"
+                + "Apple,noun,대문자 사과\n"
+                + "cherry,noun,taken\n"
+                + "durian,xyz,두리안\n"
+                + "\"egg, boiled\",noun,삶은 달걀\n";
+
+        WordImportDto.Response response = wordImportService.importWords(vocab.getId(),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), FileFormat.CSV);
+
+        assertEquals(7, response.getTotal());
+        assertEquals(3, response.getImported());
+        assertEquals(4, response.getFailed());
+        assertFalse(response.isErrorsTruncated());
+        assertEquals(List.of(
+                        DUPLICATED_WORD.getMessage(),
+                        DUPLICATED_WORD.getMessage(),
+                        DUPLICATED_DEFINITION.getMessage(),
+                        "Invalid part of speech"),
+                response.getErrors().stream()
+                        .sorted((a, b) -> Long.compare(a.getLine(), b.getLine()))
+                        .map(WordImportDto.RowError::getMessage)
+                        .toList());
+
+        entityManager.clear();
+        List<Word> words = wordRepository.findByVocab(vocab);
+        assertEquals(List.of("apple", "banana", "egg, boiled", "exists"),
+                words.stream().map(Word::getExpression).sorted().toList());
+
+        Word apple = words.stream()
+                .filter((word) -> word.getExpression().equals("apple"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, defRepository.findByWord(apple).size());
+        Rate rate = rateRepository.findById(apple.getId()).orElseThrow();
+        assertEquals(Difficulty.NORMAL, rate.getDifficulty());
+        assertEquals(vocab.getId(), rate.getVocabId());
+    }
+
+    @Test
+    @DisplayName("[WordImport] Row rejected for duplicated definition does not claim its expression")
+    void importCsvRejectedRowKeepsExpression() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = Vocab.builder()
+                .member(member)
+                .title("title")
+                .build();
+        entityManager.persist(vocab);
+
+        Word existing = Word.builder()
+                .vocab(vocab)
+                .expression("exists")
+                .build();
+        entityManager.persist(existing);
+        entityManager.persist(Def.builder()
+                .word(existing)
+                .definition("taken")
+                .part(PartOfSpeech.NOUN)
+                .build());
+        entityManager.flush();
+
+        String body = "expression,part,definition\n"
+                + "fig,noun,taken\n"
+                + "grape,noun,포도\n"
+                + "fig,noun,무화과\n";
+
+        WordImportDto.Response response = wordImportService.importWords(vocab.getId(),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), FileFormat.CSV);
+
+        assertEquals(2, response.getImported());
+        assertEquals(List.of(DUPLICATED_DEFINITION.getMessage()),
+                response.getErrors().stream().map(WordImportDto.RowError::getMessage).toList());
+        assertTrue(wordRepository.findByExpression("fig").isPresent());
+    }
+
+    @Test
+    @DisplayName("[WordImport] Imported words are found by suggest after built index is evicted")
+    void importCsvEvictsSearchIndex() {
+        Member member = Member.builder()
+                .email("index@test.com")
+                .nickname("index")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = Vocab.builder()
+                .member(member)
+                .title("title")
+                .build();
+        entityManager.persist(vocab);
+        entityManager.flush();
+
+        //import 전 색인 생성
+        assertTrue(wordSearchIndex.search(member.getId(), "kiw", 10).isEmpty());
+
+        String body = "expression,part,definition\n"
+                + "kiwi,noun,키위\n";
+        WordImportDto.Response response = wordImportService.importWords(vocab.getId(),
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), FileFormat.CSV);
+        assertEquals(1, response.getImported());
+
+        //색인 무효화는 커밋 이후에 반영되므로 테스트 트랜잭션을 커밋
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            assertEquals(List.of("kiwi"), wordSearchIndex.search(member.getId(), "kiw", 10).stream()
+                    .map(WordSuggestDto::getExpression)
+                    .toList());
+        } finally {
+            for (String table : List.of("sync_change", "def", "word_rate", "word", "vocab", "member")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
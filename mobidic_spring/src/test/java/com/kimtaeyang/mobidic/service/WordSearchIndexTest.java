@@ -0,0 +1,228 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.SimilarWordDto;
+import com.kimtaeyang.mobidic.dto.WordSuggestDto;
+import com.kimtaeyang.mobidic.entity.Vocab;
+import com.kimtaeyang.mobidic.entity.Word;
+import com.kimtaeyang.mobidic.repository.WordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WordSearchIndexTest {
+    private final UUID memberId = UUID.randomUUID();
+    private final UUID vocabId = UUID.randomUUID();
+    private final UUID otherVocabId = UUID.randomUUID();
+
+    private WordRepository wordRepository;
+    private RedisTemplate<String, String> redisTemplate;
+    private WordSearchIndex wordSearchIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        wordRepository = Mockito.mock(WordRepository.class);
+        redisTemplate = Mockito.mock(RedisTemplate.class);
+        wordSearchIndex = new WordSearchIndex(wordRepository, redisTemplate,
+                Mockito.mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+                100, 60000, 60000, true);
+
+        given(wordRepository.findSuggestionsByMemberId(any(UUID.class)))
+                .willReturn(List.of(
+                        suggestion(vocabId, "Apple"),
+                        suggestion(vocabId, "application"),
+                        suggestion(otherVocabId, "apply"),
+                        suggestion(vocabId, "banana"),
+                        suggestion(otherVocabId, "ape")));
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Search matches prefix ignoring case in order")
+    void search() {
+        assertEquals(List.of("Apple", "application", "apply"),
+                expressions(wordSearchIndex.search(memberId, "APP", 10)));
+        assertEquals(List.of("ape", "Apple"),
+                expressions(wordSearchIndex.search(memberId, "ap", 2)));
+        assertTrue(wordSearchIndex.search(memberId, "c", 10).isEmpty());
+        assertTrue(wordSearchIndex.search(memberId, " ", 10).isEmpty());
+
+        //색인은 처음 검색할 때 한 번만 생성
+        verify(wordRepository, times(1)).findSuggestionsByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Word changes update built index")
+    void update() {
+        wordSearchIndex.search(memberId, "a", 10);
+
+        Word word = Word.builder()
+                .id(UUID.randomUUID())
+                .vocab(Vocab.builder().id(vocabId).build())
+                .expression("apricot")
+                .build();
+        wordSearchIndex.put(memberId, word);
+        assertEquals(List.of("ape", "Apple", "application", "apply", "apricot"),
+                expressions(wordSearchIndex.search(memberId, "ap", 10)));
+
+        //표현 수정은 같은 단어를 교체
+        word.setExpression("avocado");
+        wordSearchIndex.put(memberId, word);
+        assertEquals(List.of("avocado"), expressions(wordSearchIndex.search(memberId, "av", 10)));
+        assertTrue(wordSearchIndex.search(memberId, "apr", 10).isEmpty());
+
+        wordSearchIndex.remove(memberId, word.getId());
+        assertTrue(wordSearchIndex.search(memberId, "av", 10).isEmpty());
+
+        wordSearchIndex.removeVocab(memberId, otherVocabId);
+        assertEquals(List.of("Apple", "application"),
+                expressions(wordSearchIndex.search(memberId, "ap", 10)));
+
+        verify(wordRepository, times(1)).findSuggestionsByMemberId(memberId);
+
+        wordSearchIndex.evictMember(memberId);
+        wordSearchIndex.search(memberId, "a", 10);
+        verify(wordRepository, times(2)).findSuggestionsByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Changes for member without index are ignored")
+    void updateWithoutIndex() {
+        wordSearchIndex.put(memberId, Word.builder()
+                .id(UUID.randomUUID())
+                .vocab(Vocab.builder().id(vocabId).build())
+                .expression("cherry")
+                .build());
+
+        //색인이 없으면 다음 검색 때 DB 에서 생성
+        assertTrue(wordSearchIndex.search(memberId, "cherry", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Change committed while building index is not lost")
+    void updateWhileLoading() {
+        Word word = Word.builder()
+                .id(UUID.randomUUID())
+                .vocab(Vocab.builder().id(vocabId).build())
+                .expression("cherry")
+                .build();
+        //조회 결과에는 없는 단어가 조회 직후 커밋
+        given(wordRepository.findSuggestionsByMemberId(memberId))
+                .willAnswer((invocation) -> {
+                    wordSearchIndex.put(memberId, word);
+                    return List.of(suggestion(vocabId, "banana"));
+                })
+                .willReturn(List.of(suggestion(vocabId, "banana"), suggestion(vocabId, "cherry")));
+
+        assertTrue(wordSearchIndex.search(memberId, "cherry", 10).isEmpty());
+
+        //이전 색인은 버려지고 다음 검색에서 다시 생성
+        assertEquals(List.of("cherry"), expressions(wordSearchIndex.search(memberId, "cherry", 10)));
+        verify(wordRepository, times(2)).findSuggestionsByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Changes on other nodes invalidate index")
+    void invalidateByMessage() {
+        wordSearchIndex.search(memberId, "a", 10);
+
+        //자신이 보낸 메시지는 이미 반영했으므로 무시
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        wordSearchIndex.remove(memberId, UUID.randomUUID());
+        verify(redisTemplate).convertAndSend(eq(WordSearchIndex.CHANNEL), published.capture());
+        wordSearchIndex.onMessage(message(published.getValue()), null);
+        wordSearchIndex.search(memberId, "a", 10);
+        verify(wordRepository, times(1)).findSuggestionsByMemberId(memberId);
+
+        wordSearchIndex.onMessage(message(UUID.randomUUID() + ":" + memberId), null);
+        wordSearchIndex.search(memberId, "a", 10);
+        verify(wordRepository, times(2)).findSuggestionsByMemberId(memberId);
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Find similar words within edit distance")
+    void findSimilar() {
+        List<SimilarWordDto> similar = wordSearchIndex.findSimilar(memberId, "APLE", 2);
+
+        //거리순, 같은 거리는 표현순
+        assertEquals(List.of("ape", "Apple", "apply"),
+                similar.stream().map(SimilarWordDto::getExpression).toList());
+        assertEquals(List.of(1, 1, 2),
+                similar.stream().map(SimilarWordDto::getDistance).toList());
+        assertEquals(List.of("ape", "Apple"), wordSearchIndex.findSimilar(memberId, "aple", 1).stream()
+                .map(SimilarWordDto::getExpression).toList());
+        assertEquals(1, wordSearchIndex.findSimilar(memberId, "bananas", 2).getFirst().getDistance());
+        assertTrue(wordSearchIndex.findSimilar(memberId, "bananas", 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("[WordSearchIndex] Similar search matches brute force search")
+    void similarMatchesBruteForce() {
+        Random random = new Random(7);
+        List<WordSuggestDto> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            words.add(suggestion(vocabId, randomWord(random)));
+        }
+        WordSearchIndex.MemberIndex index = WordSearchIndex.MemberIndex.of(words);
+
+        for (int q = 0; q < 200; q++) {
+            String query = randomWord(random);
+            for (int k = 0; k <= 2; k++) {
+                Set<UUID> expected = new HashSet<>();
+                for (WordSuggestDto word : words) {
+                    if (WordSearchIndex.editDistance(query, word.getExpression()) <= k) {
+                        expected.add(word.getId());
+                    }
+                }
+
+                Set<UUID> actual = new HashSet<>();
+                index.similar(query, k, Integer.MAX_VALUE).forEach((word) -> actual.add(word.getId()));
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    private String randomWord(Random random) {
+        char[] chars = new char[2 + random.nextInt(4)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(4));
+        }
+
+        return new String(chars);
+    }
+
+    private Message message(String body) {
+        return new DefaultMessage(WordSearchIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private WordSuggestDto suggestion(UUID vocabId, String expression) {
+        return new WordSuggestDto(UUID.randomUUID(), vocabId, expression);
+    }
+
+    private List<String> expressions(List<WordSuggestDto> words) {
+        return words.stream().map(WordSuggestDto::getExpression).toList();
+    }
+}
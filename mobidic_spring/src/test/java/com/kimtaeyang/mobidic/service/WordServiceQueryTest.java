@@ -0,0 +1,308 @@
+package com.kimtaeyang.mobidic.service;
+
+import com.kimtaeyang.mobidic.dto.CursorPageDto;
+import com.kimtaeyang.mobidic.dto.WordDetailDto;
+import com.kimtaeyang.mobidic.entity.*;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.PartOfSpeech;
+import com.kimtaeyang.mobidic.type.SyncType;
+import com.kimtaeyang.mobidic.type.WordField;
+import com.kimtaeyang.mobidic.type.WordSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({WordService.class, MemberScope.class})
+class WordServiceQueryTest {
+    private static final Set<WordField> ALL_FIELDS = EnumSet.allOf(WordField.class);
+
+    @MockitoBean
+    private ResourceOwnerCache resourceOwnerCache;
+
+    @MockitoBean
+    private WordSearchIndex wordSearchIndex;
+
+    @MockitoBean
+    private SyncService syncService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WordService wordService;
+
+    @Test
+    @DisplayName("[WordService] Get words by vocab id runs fixed number of queries")
+    void getWordsByVocabIdQueryCount() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab small = persistVocab(member, "small", 1);
+        Vocab large = persistVocab(member, "large", 50);
+        entityManager.flush();
+
+        long smallCount = countQueries(small, 1);
+        long largeCount = countQueries(large, 50);
+
+        assertEquals(smallCount, largeCount);
+    }
+
+    @Test
+    @DisplayName("[WordService] Get word page walks every word once in order")
+    void getWordPageByVocabIdWalk() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = persistVocab(member, "page", 25);
+        entityManager.flush();
+
+        for (WordSort sort : WordSort.values()) {
+            List<WordDetailDto> words = walkPages(vocab, sort, null);
+
+            assertEquals(25, words.size());
+            assertEquals(25, words.stream().map(WordDetailDto::getExpression).distinct().count());
+            if (sort == WordSort.EXPRESSION) {
+                List<String> expressions = words.stream().map(WordDetailDto::getExpression).toList();
+                assertEquals(expressions.stream().sorted().toList(), expressions);
+            }
+            if (sort == WordSort.DIFFICULTY) {
+                List<Difficulty> difficulties = words.stream().map(WordDetailDto::getDifficulty).toList();
+                assertEquals(difficulties.stream().sorted(Comparator.reverseOrder()).toList(), difficulties);
+            }
+
+            //i % 3 == 2 인 단어만 HARD
+            List<WordDetailDto> hardWords = walkPages(vocab, sort, Difficulty.HARD);
+            assertEquals(8, hardWords.size());
+            hardWords.forEach((word) -> assertEquals(Difficulty.HARD, word.getDifficulty()));
+        }
+    }
+
+    @Test
+    @DisplayName("[WordService] Get words by vocab id filters difficulty in query")
+    void getWordsByVocabIdDifficulty() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = persistVocab(member, "filter", 9);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            List<WordDetailDto> words = wordService.getWordsByVocabId(vocab.getId(), difficulty, ALL_FIELDS);
+
+            assertEquals(3, words.size());
+            words.forEach((word) -> assertEquals(difficulty, word.getDifficulty()));
+        }
+    }
+
+    @Test
+    @DisplayName("[WordService] Get words returns same words with or without difficulty field")
+    void getWordsByVocabIdWithoutRate() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = persistVocab(member, "norate", 2);
+        //학습률 행이 없는 단어
+        entityManager.persist(Word.builder()
+                .vocab(vocab)
+                .expression("norate")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<WordDetailDto> sparse = wordService.getWordsByVocabId(
+                vocab.getId(), null, EnumSet.of(WordField.ID, WordField.EXPRESSION));
+        List<WordDetailDto> all = wordService.getWordsByVocabId(vocab.getId(), null, ALL_FIELDS);
+
+        assertEquals(3, sparse.size());
+        assertEquals(sparse.stream().map(WordDetailDto::getId).collect(Collectors.toSet()),
+                all.stream().map(WordDetailDto::getId).collect(Collectors.toSet()));
+        assertNull(all.stream()
+                .filter((word) -> word.getExpression().equals("norate"))
+                .findFirst().orElseThrow()
+                .getDifficulty());
+    }
+
+    @Test
+    @DisplayName("[WordService] Get words skips rate and def queries for unrequested fields")
+    void getWordsByVocabIdFields() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = persistVocab(member, "fields", 10);
+        entityManager.flush();
+
+        Set<WordField> sparse = EnumSet.of(WordField.ID, WordField.EXPRESSION);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //단어장 1회 + 단어 1회
+        entityManager.clear();
+        statistics.clear();
+        List<WordDetailDto> words = wordService.getWordsByVocabId(vocab.getId(), null, sparse);
+        assertEquals(10, words.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        words.forEach((word) -> {
+            assertNull(word.getDefs());
+            assertNull(word.getDifficulty());
+            assertNull(word.getVocabId());
+        });
+
+        //단어장 1회 + 단어 10건 중 10건 페이지 1회
+        entityManager.clear();
+        statistics.clear();
+        CursorPageDto<WordDetailDto> page =
+                wordService.getWordPageByVocabId(vocab.getId(), WordSort.CREATED_AT, null, null, 10, sparse);
+        assertEquals(10, page.getItems().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        //단어 1회
+        entityManager.clear();
+        statistics.clear();
+        WordDetailDto detail = wordService.getWordDetail(words.getFirst().getId(), sparse);
+        assertEquals(words.getFirst().getExpression(), detail.getExpression());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("[WordService] Delete word records tombstone when owner cache misses")
+    void deleteWordOwnerCacheMiss() {
+        Member member = Member.builder()
+                .email("test@test.com")
+                .nickname("test")
+                .password("password")
+                .build();
+        entityManager.persist(member);
+
+        Vocab vocab = persistVocab(member, "delete", 0);
+        Word word = Word.builder()
+                .vocab(vocab)
+                .expression("delete")
+                .build();
+        entityManager.persist(word);
+        entityManager.flush();
+        entityManager.clear();
+
+        //ResourceOwnerCache 는 mock 이므로 소유자 조회는 항상 캐시 미스
+        wordService.deleteWord(word.getId());
+        entityManager.flush();
+
+        verify(wordSearchIndex).remove(member.getId(), word.getId());
+        verify(syncService).recordDelete(member.getId(), SyncType.WORD, word.getId(), vocab.getId());
+        verify(resourceOwnerCache, never()).getOwnerId(any(), any());
+    }
+
+    //모든 페이지를 이어 받으며 페이지마다 쿼리 수가 같은지 확인
+    private List<WordDetailDto> walkPages(Vocab vocab, WordSort sort, Difficulty difficulty) {
+        List<WordDetailDto> words = new ArrayList<>();
+        Set<Long> queryCounts = new HashSet<>();
+        String cursor = null;
+        do {
+            entityManager.clear();
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.clear();
+
+            CursorPageDto<WordDetailDto> page =
+                    wordService.getWordPageByVocabId(vocab.getId(), sort, difficulty, cursor, 10, ALL_FIELDS);
+
+            queryCounts.add(statistics.getPrepareStatementCount());
+            words.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertEquals(page.isHasNext(), cursor != null);
+        } while (cursor != null);
+
+        assertEquals(1, queryCounts.size());
+        return words;
+    }
+
+    private long countQueries(Vocab vocab, int wordCount) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<WordDetailDto> words = wordService.getWordsByVocabId(vocab.getId(), null, ALL_FIELDS);
+
+        assertEquals(wordCount, words.size());
+        words.forEach((word) -> assertEquals(2, word.getDefs().size()));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Vocab persistVocab(Member member, String title, int wordCount) {
+        Vocab vocab = Vocab.builder()
+                .member(member)
+                .title(title)
+                .build();
+        entityManager.persist(vocab);
+
+        for (int i = 0; i < wordCount; i++) {
+            Word word = Word.builder()
+                    .vocab(vocab)
+                    .expression(title + i)
+                    .build();
+            entityManager.persist(word);
+            //0, 1, 2 순서로 NORMAL, EASY, HARD
+            entityManager.persist(Rate.builder()
+                    .word(word)
+                    .correctCount(i % 3 == 1 ? 10 : 0)
+                    .incorrectCount(i % 3 == 2 ? 10 : 0)
+                    .build());
+
+            for (int j = 0; j < 2; j++) {
+                entityManager.persist(Def.builder()
+                        .word(word)
+                        .definition(title + i + "-" + j)
+                        .part(PartOfSpeech.NOUN)
+                        .build());
+            }
+        }
+
+        return vocab;
+    }
+}
@@ -1,8 +1,10 @@
 package com.kimtaeyang.mobidic.service;
 
 import com.kimtaeyang.mobidic.dto.AddWordDto;
+import com.kimtaeyang.mobidic.dto.DefDto;
+import com.kimtaeyang.mobidic.dto.SimilarWordDto;
 import com.kimtaeyang.mobidic.dto.WordDetailDto;
-import com.kimtaeyang.mobidic.entity.Def;
+import com.kimtaeyang.mobidic.entity.Member;
 import com.kimtaeyang.mobidic.entity.Rate;
 import com.kimtaeyang.mobidic.entity.Vocab;
 import com.kimtaeyang.mobidic.entity.Word;
@@ -10,9 +12,14 @@ import com.kimtaeyang.mobidic.repository.DefRepository;
 import com.kimtaeyang.mobidic.repository.RateRepository;
 import com.kimtaeyang.mobidic.repository.VocabRepository;
 import com.kimtaeyang.mobidic.repository.WordRepository;
+import com.kimtaeyang.mobidic.security.MemberScope;
+import com.kimtaeyang.mobidic.security.ResourceOwnerCache;
+import com.kimtaeyang.mobidic.type.Difficulty;
+import com.kimtaeyang.mobidic.type.WordField;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,11 +29,13 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -45,6 +54,9 @@ class WordServiceTest {
     @Autowired
     private RateRepository rateRepository;
 
+    @Autowired
+    private WordSearchIndex wordSearchIndex;
+
     @Autowired
     private WordService wordService;
 
@@ -62,9 +74,13 @@ class WordServiceTest {
         ArgumentCaptor<Word> captor =
                 ArgumentCaptor.forClass(Word.class);
 
+        Vocab vocab = Mockito.mock(Vocab.class);
+
         //given
+        given(vocab.getMember())
+                .willReturn(Mockito.mock(Member.class));
         given(vocabRepository.findById(any(UUID.class)))
-                .willReturn(Optional.of(Mockito.mock(Vocab.class)));
+                .willReturn(Optional.of(vocab));
         given(wordRepository.findByExpression(anyString()))
                 .willReturn(Optional.empty());
         given(wordRepository.save(any(Word.class)))
@@ -90,35 +106,42 @@ class WordServiceTest {
     void getWordsByVocabIdSuccess() {
         resetMock();
 
+        UUID wordId = UUID.randomUUID();
+
         Word defaultWord = Word.builder()
+                .id(wordId)
                 .vocab(Mockito.mock(Vocab.class))
                 .expression("expression")
                 .build();
 
-        Rate defaultRate = Rate.builder()
-                .word(defaultWord)
-                .isLearned(0)
-                .incorrectCount(4)
-                .correctCount(3)
-                .build();
+        WordRepository.WordDifficulty defaultWordDifficulty = Mockito.mock(WordRepository.WordDifficulty.class);
+        given(defaultWordDifficulty.getWord()).willReturn(defaultWord);
+        given(defaultWordDifficulty.getDifficulty()).willReturn(Difficulty.NORMAL);
 
-        ArrayList<Word> words = new ArrayList<>();
-        words.add(defaultWord);
+        DefDto defaultDef = DefDto.builder()
+                .id(UUID.randomUUID())
+                .wordId(wordId)
+                .definition("definition")
+                .build();
 
         //given
         given(vocabRepository.findById(any(UUID.class)))
                 .willReturn(Optional.of(Mockito.mock(Vocab.class)));
-        given(wordRepository.findByVocab(any(Vocab.class)))
-                .willReturn(words);
-        given(rateRepository.findRateByWord(any(Word.class)))
-                .willReturn(Optional.of(defaultRate));
+        given(wordRepository.findWithDifficultyByVocabId(any()))
+                .willReturn(List.of(defaultWordDifficulty));
+        given(defRepository.findDtosByWordIdIn(anyCollection()))
+                .willReturn(List.of(defaultDef));
 
         //when
-        List<WordDetailDto> response = wordService.getWordsByVocabId(UUID.randomUUID());
+        List<WordDetailDto> response = wordService.getWordsByVocabId(UUID.randomUUID(), null, EnumSet.allOf(WordField.class));
 
         //then
-        assertEquals(words.getFirst().getVocab().getId(), response.getFirst().getVocabId());
-        assertEquals(words.getFirst().getExpression(), response.getFirst().getExpression());
+        verify(rateRepository, never()).findRateByWord(any(Word.class));
+        verify(defRepository, never()).findDtosByWordId(any(UUID.class));
+        assertEquals(defaultWord.getVocab().getId(), response.getFirst().getVocabId());
+        assertEquals(defaultWord.getExpression(), response.getFirst().getExpression());
+        assertEquals(List.of(defaultDef), response.getFirst().getDefs());
+        assertEquals(Difficulty.NORMAL, response.getFirst().getDifficulty());
     }
 
     @Test
@@ -141,9 +164,9 @@ class WordServiceTest {
                 .correctCount(3)
                 .build();
 
-        Def defaultDef = Mockito.mock(Def.class);
+        DefDto defaultDef = Mockito.mock(DefDto.class);
 
-        ArrayList<Def> defs = new ArrayList<>();
+        ArrayList<DefDto> defs = new ArrayList<>();
         defs.add(defaultDef);
 
         //given
@@ -151,12 +174,12 @@ class WordServiceTest {
                 .willReturn(Optional.of(defaultWord));
         given(rateRepository.findRateByWord(any(Word.class)))
                 .willReturn(Optional.of(defaultRate));
-        given(defRepository.findByWord(any(Word.class)))
+        given(defRepository.findDtosByWordId(any(UUID.class)))
                 .willReturn(defs);
 
         //when
         WordDetailDto response =
-                wordService.getWordDetail(UUID.randomUUID());
+                wordService.getWordDetail(UUID.randomUUID(), EnumSet.allOf(WordField.class));
 
         //then
         assertEquals(vocabId, response.getId());
@@ -173,7 +196,10 @@ class WordServiceTest {
 
         Word defaultWord = Word.builder()
                 .id(wordId)
-                .vocab(Mockito.mock(Vocab.class))
+                .vocab(Vocab.builder()
+                        .id(UUID.randomUUID())
+                        .member(Member.builder().id(UUID.randomUUID()).build())
+                        .build())
                 .expression("expression")
                 .build();
 
@@ -210,28 +236,83 @@ class WordServiceTest {
 
     @TestConfiguration
     static class TestConfig {
+        @Bean
+        public SyncService syncService() {
+            return Mockito.mock(SyncService.class);
+        }
+
         @Bean
         public WordRepository wordRepository() {
-            return Mockito.mock(WordRepository.class);
+            return Mockito.mock(WordRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
         public VocabRepository vocabRepository() {
-            return Mockito.mock(VocabRepository.class);
+            return Mockito.mock(VocabRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
         public DefRepository defRepository() {
-            return Mockito.mock(DefRepository.class);
+            return Mockito.mock(DefRepository.class, Answers.CALLS_REAL_METHODS);
         }
 
         @Bean
         public RateRepository rateRepository() {
             return Mockito.mock(RateRepository.class);
         }
+
+        @Bean
+        public ResourceOwnerCache resourceOwnerCache() {
+            return Mockito.mock(ResourceOwnerCache.class);
+        }
+
+        @Bean
+        public WordSearchIndex wordSearchIndex() {
+            return Mockito.mock(WordSearchIndex.class);
+        }
+
+        @Bean
+        public MemberScope memberScope() {
+            return new MemberScope(false);
+        }
+    }
+
+    @Test
+    @DisplayName("[WordService] Find similar words ranks by distance and learning state")
+    void findSimilarWordsSuccess() {
+        resetMock();
+
+        UUID memberId = UUID.randomUUID();
+        SimilarWordDto learned = similarWord("apply", 1);
+        SimilarWordDto learning = similarWord("apple", 1);
+        SimilarWordDto far = similarWord("ape", 2);
+
+        //given
+        given(wordSearchIndex.findSimilar(memberId, "appl", 2))
+                .willReturn(new ArrayList<>(List.of(far, learned, learning)));
+        given(rateRepository.findAllById(anyList()))
+                .willReturn(List.of(
+                        Rate.builder().wordId(learned.getId()).isLearned(1).build(),
+                        Rate.builder().wordId(learning.getId()).isLearned(0).build()));
+
+        //when
+        List<SimilarWordDto> response = wordService.findSimilarWords(memberId, "appl", 2, 10);
+
+        //then
+        assertEquals(List.of("apple", "apply", "ape"),
+                response.stream().map(SimilarWordDto::getExpression).toList());
+        assertEquals(1, response.get(1).getIsLearned());
+    }
+
+    private SimilarWordDto similarWord(String expression, int distance) {
+        return SimilarWordDto.builder()
+                .id(UUID.randomUUID())
+                .expression(expression)
+                .distance(distance)
+                .build();
     }
 
     private void resetMock(){
-        Mockito.reset(wordRepository, vocabRepository, defRepository, rateRepository);
+        Mockito.reset(wordRepository, vocabRepository, defRepository, rateRepository, wordSearchIndex);
     }
 }
\ No newline at end of file